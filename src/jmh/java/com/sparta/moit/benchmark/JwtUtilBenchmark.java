@@ -0,0 +1,61 @@
+package com.sparta.moit.benchmark;
+
+import com.sparta.moit.domain.member.entity.UserRoleEnum;
+import com.sparta.moit.global.jwt.JwtUtil;
+import com.sparta.moit.global.jwt.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * JWT 생성 / 검증
+ * cachedParse : 요청마다 같은 토큰 (VerifiedTokenCache 적중)
+ * signedParse : 캐시 없이 서명 검증 + claims 파싱 (캐시 미스 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtUtilBenchmark {
+    private static final String SECRET_KEY = Base64.getEncoder()
+            .encodeToString("moit-benchmark-secret-key-0123456789abcdef".getBytes());
+
+    private JwtUtil jwtUtil;
+    private JwtParser jwtParser;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        jwtUtil = new JwtUtil(null, null, new VerifiedTokenCache(new SimpleMeterRegistry(), 50_000));
+        Field secretKey = JwtUtil.class.getDeclaredField("secretKey");
+        secretKey.setAccessible(true);
+        secretKey.set(jwtUtil, SECRET_KEY);
+        jwtUtil.init();
+
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY)))
+                .build();
+        token = jwtUtil.createToken("benchmark@moit.me", UserRoleEnum.USER).substring(JwtUtil.BEARER_PREFIX.length());
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken("benchmark@moit.me", UserRoleEnum.USER);
+    }
+
+    @Benchmark
+    public Claims cachedParse() {
+        return jwtUtil.getUserInfoFromToken(token);
+    }
+
+    @Benchmark
+    public Claims signedParse() {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+}
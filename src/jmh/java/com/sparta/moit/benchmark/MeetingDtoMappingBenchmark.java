@@ -0,0 +1,47 @@
+package com.sparta.moit.benchmark;
+
+import com.sparta.moit.domain.meeting.dto.GetMeetingArrayResponseDto;
+import com.sparta.moit.domain.meeting.dto.GetMeetingResponseDto;
+import com.sparta.moit.domain.meeting.entity.Meeting;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 목록 응답 변환 (Meeting -> 응답 DTO)
+ * jsonb : 저장된 skillList / careerList 그대로 사용, array : id 배열을 이름으로 매핑
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MeetingDtoMappingBenchmark {
+    private Meeting meeting;
+    private List<Meeting> feedPage;
+
+    @Setup
+    public void setUp() {
+        meeting = MeetingFixtures.meeting(1L);
+        feedPage = MeetingFixtures.feedPage();
+    }
+
+    @Benchmark
+    public GetMeetingResponseDto jsonbFromEntity() {
+        return GetMeetingResponseDto.fromEntity(meeting, false);
+    }
+
+    @Benchmark
+    public GetMeetingArrayResponseDto arrayFromEntity() {
+        return GetMeetingArrayResponseDto.fromEntity(meeting, false);
+    }
+
+    @Benchmark
+    public List<GetMeetingResponseDto> jsonbFeedPage() {
+        return feedPage.stream().map(m -> GetMeetingResponseDto.fromEntity(m, false)).toList();
+    }
+
+    @Benchmark
+    public List<GetMeetingArrayResponseDto> arrayFeedPage() {
+        return feedPage.stream().map(m -> GetMeetingArrayResponseDto.fromEntity(m, false)).toList();
+    }
+}
@@ -0,0 +1,60 @@
+package com.sparta.moit.benchmark;
+
+import com.sparta.moit.domain.meeting.entity.Meeting;
+import com.sparta.moit.global.util.PointUtil;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.sparta.moit.global.util.CareerMapper.createCareerResponseList;
+import static com.sparta.moit.global.util.SkillMapper.createSkillResponseList;
+
+/* 벤치마크 공용 모임 데이터 (DB 없이 엔티티만 생성) */
+public final class MeetingFixtures {
+    public static final int FEED_PAGE_SIZE = 10; /* MeetingServiceImpl 목록 한 페이지 크기 */
+
+    private static final double BASE_LAT = 37.5665;
+    private static final double BASE_LNG = 126.9780;
+
+    private MeetingFixtures() {
+    }
+
+    public static Meeting meeting(long id) {
+        Long[] skillIds = {1L, 5L, 13L, (id % 52) + 1};
+        Long[] careerIds = {1L, (id % 5) + 1};
+        double lat = BASE_LAT + (id % 100) * 0.001;
+        double lng = BASE_LNG + (id % 100) * 0.001;
+        LocalDate meetingDate = LocalDate.of(2024, 5, 1).plusDays(id % 30);
+
+        return Meeting.builder()
+                .id(id)
+                .meetingName("스프링 스터디 모각코 " + id)
+                .meetingDate(meetingDate)
+                .meetingStartTime(meetingDate.atTime(19, 0))
+                .meetingEndTime(meetingDate.atTime(21, 0))
+                .budget(10000)
+                .locationAddress("서울특별시 중구 세종대로 110")
+                .contents("주 1회 모여서 스프링 부트와 JPA 를 공부하는 모임입니다.")
+                .registeredCount((short) 3)
+                .totalCount((short) 8)
+                .locationLat(lat)
+                .locationLng(lng)
+                .locationPosition(PointUtil.createPointFromLngLat(lng, lat))
+                .regionFirstName("서울특별시")
+                .regionSecondName("중구")
+                .skillList(createSkillResponseList(List.of(skillIds)))
+                .careerList(createCareerResponseList(List.of(careerIds)))
+                .skillIdList(skillIds)
+                .careerIdList(careerIds)
+                .build();
+    }
+
+    public static List<Meeting> feedPage() {
+        List<Meeting> meetings = new ArrayList<>(FEED_PAGE_SIZE);
+        for (long id = 1; id <= FEED_PAGE_SIZE; id++) {
+            meetings.add(meeting(id));
+        }
+        return meetings;
+    }
+}
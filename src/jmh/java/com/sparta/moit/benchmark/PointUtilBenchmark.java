@@ -0,0 +1,21 @@
+package com.sparta.moit.benchmark;
+
+import com.sparta.moit.global.util.PointUtil;
+import org.locationtech.jts.geom.Point;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/* 위경도 -> Point 생성 (모임 등록/수정, 위치 기반 조회마다 호출) */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PointUtilBenchmark {
+    private double longitude = 126.9780;
+    private double latitude = 37.5665;
+
+    @Benchmark
+    public Point createPointFromLngLat() {
+        return PointUtil.createPointFromLngLat(longitude, latitude);
+    }
+}
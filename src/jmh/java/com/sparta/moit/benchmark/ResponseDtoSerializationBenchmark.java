@@ -0,0 +1,44 @@
+package com.sparta.moit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sparta.moit.domain.meeting.dto.GetMeetingArrayResponseDto;
+import com.sparta.moit.domain.meeting.dto.GetMeetingResponseDto;
+import com.sparta.moit.global.common.dto.ResponseDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/* 목록 응답 한 페이지의 JSON 직렬화 (스프링 부트 기본 ObjectMapper 설정과 동일) */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResponseDtoSerializationBenchmark {
+    private ObjectMapper objectMapper;
+    private ResponseDto<List<GetMeetingResponseDto>> jsonbResponse;
+    private ResponseDto<List<GetMeetingArrayResponseDto>> arrayResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        jsonbResponse = ResponseDto.success("모임 조회 완료",
+                MeetingFixtures.feedPage().stream().map(m -> GetMeetingResponseDto.fromEntity(m, false)).toList());
+        arrayResponse = ResponseDto.success("모임 조회 완료",
+                MeetingFixtures.feedPage().stream().map(m -> GetMeetingArrayResponseDto.fromEntity(m, false)).toList());
+    }
+
+    @Benchmark
+    public byte[] jsonbFeedPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(jsonbResponse);
+    }
+
+    @Benchmark
+    public byte[] arrayFeedPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(arrayResponse);
+    }
+}
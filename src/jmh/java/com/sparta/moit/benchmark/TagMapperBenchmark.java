@@ -0,0 +1,57 @@
+package com.sparta.moit.benchmark;
+
+import com.sparta.moit.domain.meeting.dto.CareerDto;
+import com.sparta.moit.domain.meeting.dto.CareerResponseDto;
+import com.sparta.moit.domain.meeting.dto.SkillDto;
+import com.sparta.moit.domain.meeting.dto.SkillResponseDto;
+import com.sparta.moit.global.util.CareerMapper;
+import com.sparta.moit.global.util.SkillMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/* 기술 / 경력 id -> 이름 매핑 (모임 등록 : List, 목록 응답 : 배열) */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TagMapperBenchmark {
+    @Param({"1", "4", "10"})
+    private int skillCount;
+
+    private List<Long> skillIdList;
+    private Long[] skillIdArray;
+    private List<Long> careerIdList;
+    private Long[] careerIdArray;
+
+    @Setup
+    public void setUp() {
+        skillIdArray = new Long[skillCount];
+        for (int i = 0; i < skillCount; i++) {
+            skillIdArray[i] = (long) (i * 5 % 52) + 1;
+        }
+        skillIdList = List.of(skillIdArray);
+        careerIdArray = new Long[]{1L, 2L};
+        careerIdList = List.of(careerIdArray);
+    }
+
+    @Benchmark
+    public List<SkillResponseDto> skillFromList() {
+        return SkillMapper.createSkillResponseList(skillIdList);
+    }
+
+    @Benchmark
+    public List<SkillDto> skillFromArray() {
+        return SkillMapper.createSkillResponseList(skillIdArray);
+    }
+
+    @Benchmark
+    public List<CareerResponseDto> careerFromList() {
+        return CareerMapper.createCareerResponseList(careerIdList);
+    }
+
+    @Benchmark
+    public List<CareerDto> careerFromArray() {
+        return CareerMapper.createCareerResponseList(careerIdArray);
+    }
+}
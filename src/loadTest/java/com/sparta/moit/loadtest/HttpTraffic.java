@@ -0,0 +1,85 @@
+package com.sparta.moit.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/* HTTP 경로 요청 (목록, 검색, 상세, 참가, 채팅 목록) */
+public class HttpTraffic {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+    private final String baseUrl;
+    private final LoadTestConfig config;
+    private final LoadTestData data;
+    private final List<String> tokens;
+
+    public HttpTraffic(String baseUrl, LoadTestConfig config, LoadTestData data, List<String> tokens) {
+        this.baseUrl = baseUrl;
+        this.config = config;
+        this.data = data;
+        this.tokens = tokens;
+    }
+
+    /* 요청 성공 (2xx) 여부 반환 */
+    public boolean execute(Route route) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HttpRequest request = switch (route) {
+            case FEED -> get(feedUri(random), null);
+            case SEARCH -> get("/api/meetings/search/cursor?keyword=" + encode(pick(data.getKeywords(), random)), null);
+            case DETAIL -> get("/api/meetings/" + pick(data.getMeetingIds(), random),
+                    random.nextBoolean() ? pick(tokens, random) : null);
+            case JOIN -> post("/api/meetings/my-meetings/" + pick(data.getMeetingIds(), random), pick(tokens, random));
+            case CHAT_HISTORY -> {
+                LoadTestData.Membership membership = pick(data.getMemberships(), random);
+                yield get("/api/meetings/" + membership.getMeetingId() + "/chats", tokens.get(membership.getMemberIndex()));
+            }
+            case CHAT_SEND -> throw new IllegalArgumentException("STOMP 경로는 StompChatTraffic 에서 처리");
+        };
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() / 100 == 2;
+    }
+
+    /* 시드 분포 범위 안의 임의 기준 좌표 */
+    private String feedUri(ThreadLocalRandom random) {
+        double lat = config.getCenterLat() + (random.nextDouble() * 2 - 1) * config.getSpreadKm() / KM_PER_DEGREE;
+        double lng = config.getCenterLng() + (random.nextDouble() * 2 - 1) * config.getSpreadKm()
+                / (KM_PER_DEGREE * Math.cos(Math.toRadians(config.getCenterLat())));
+        return String.format("/api/meetings/cursor?locationLat=%.6f&locationLng=%.6f", lat, lng);
+    }
+
+    private HttpRequest get(String path, String token) {
+        return builder(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token) {
+        return builder(path, token).POST(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private HttpRequest.Builder builder(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", token);
+        }
+        return builder;
+    }
+
+    private String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private <T> T pick(List<T> values, ThreadLocalRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
@@ -0,0 +1,76 @@
+package com.sparta.moit.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 경로별 응답 시간 / 오류 수 집계
+ * warm-up 구간 (recording = false) 의 요청은 집계하지 않음
+ */
+@Slf4j(topic = "LoadTestReport")
+public class LatencyRecorder {
+    private final Map<Route, ConcurrentLinkedQueue<Long>> latencies = new EnumMap<>(Route.class);
+    private final Map<Route, AtomicLong> errors = new EnumMap<>(Route.class);
+    private volatile boolean recording = false;
+    private volatile long recordingStartNanos;
+
+    public LatencyRecorder() {
+        for (Route route : Route.values()) {
+            latencies.put(route, new ConcurrentLinkedQueue<>());
+            errors.put(route, new AtomicLong());
+        }
+    }
+
+    public void startRecording() {
+        this.recordingStartNanos = System.nanoTime();
+        this.recording = true;
+    }
+
+    public void success(Route route, long elapsedNanos) {
+        if (recording) {
+            latencies.get(route).add(elapsedNanos);
+        }
+    }
+
+    public void failure(Route route) {
+        if (recording) {
+            errors.get(route).incrementAndGet();
+        }
+    }
+
+    /* 경로별 요청 수, 오류 수, 처리량, p50 / p99 / 최대 응답 시간 출력 */
+    public void report() {
+        double elapsedSeconds = (System.nanoTime() - recordingStartNanos) / 1_000_000_000.0;
+        log.info(String.format("%-45s %9s %7s %10s %9s %9s %9s",
+                "route", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)"));
+        for (Route route : Route.values()) {
+            long[] sorted = latencies.get(route).stream().mapToLong(Long::longValue).toArray();
+            long errorCount = errors.get(route).get();
+            if (sorted.length == 0 && errorCount == 0) {
+                continue;
+            }
+            Arrays.sort(sorted);
+            log.info(String.format("%-45s %9d %7d %10.1f %9.2f %9.2f %9.2f",
+                    route.getDescription(),
+                    sorted.length,
+                    errorCount,
+                    sorted.length / elapsedSeconds,
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0));
+        }
+    }
+
+    private double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
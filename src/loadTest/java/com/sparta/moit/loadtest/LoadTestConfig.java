@@ -0,0 +1,81 @@
+package com.sparta.moit.loadtest;
+
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/*
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.*, gradle 에서는 -Ploadtest.*)
+ * loadtest.mix 형식 : feed=40,search=15,detail=25,join=5,chat-history=10,chat-send=5 (가중치)
+ */
+@Getter
+public class LoadTestConfig {
+    private static final String DEFAULT_MIX = "feed=40,search=15,detail=25,join=5,chat-history=10,chat-send=5";
+
+    private final int meetings;
+    private final int members;
+    private final int joinsPerMember;
+    private final int bookmarksPerMember;
+    private final int chatMeetings;
+    private final int chatsPerMeeting;
+
+    private final double centerLat;
+    private final double centerLng;
+    private final double spreadKm;
+
+    private final int concurrency;
+    private final int chatSessions;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final Map<Route, Integer> mix;
+
+    private LoadTestConfig() {
+        this.meetings = intProperty("loadtest.meetings", 20_000);
+        this.members = intProperty("loadtest.members", 2_000);
+        this.joinsPerMember = intProperty("loadtest.joins-per-member", 5);
+        this.bookmarksPerMember = intProperty("loadtest.bookmarks-per-member", 5);
+        this.chatMeetings = intProperty("loadtest.chat-meetings", 500);
+        this.chatsPerMeeting = intProperty("loadtest.chats-per-meeting", 200);
+        this.centerLat = doubleProperty("loadtest.center-lat", 37.5665);
+        this.centerLng = doubleProperty("loadtest.center-lng", 126.9780);
+        this.spreadKm = doubleProperty("loadtest.spread-km", 30);
+        this.concurrency = intProperty("loadtest.concurrency", 32);
+        this.chatSessions = intProperty("loadtest.chat-sessions", 50);
+        this.warmupSeconds = intProperty("loadtest.warmup-seconds", 15);
+        this.durationSeconds = intProperty("loadtest.duration-seconds", 60);
+        this.mix = parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX));
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig();
+    }
+
+    private static Map<Route, Integer> parseMix(String value) {
+        Map<Route, Integer> mix = new EnumMap<>(Route.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식 오류 : " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Route.fromKey(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix 에 가중치가 0 보다 큰 경로가 없습니다.");
+        }
+        return mix;
+    }
+
+    private static int intProperty(String key, int defaultValue) {
+        String value = System.getProperty(key);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        return value == null ? defaultValue : Double.parseDouble(value.trim());
+    }
+}
@@ -0,0 +1,52 @@
+package com.sparta.moit.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+
+/* PostGIS, Redis 컨테이너 (애플리케이션 접속 정보는 command line 인자로 전달) */
+@Slf4j(topic = "LoadTestContainers")
+public class LoadTestContainers implements AutoCloseable {
+    private static final DockerImageName POSTGIS_IMAGE = DockerImageName.parse("postgis/postgis:16-3.4")
+            .asCompatibleSubstituteFor("postgres");
+    private static final DockerImageName REDIS_IMAGE = DockerImageName.parse("redis:7-alpine");
+    private static final int REDIS_PORT = 6379;
+
+    private final PostgreSQLContainer<?> postgres;
+    private final GenericContainer<?> redis;
+
+    private LoadTestContainers() {
+        this.postgres = new PostgreSQLContainer<>(POSTGIS_IMAGE)
+                .withDatabaseName("moit")
+                .withCommand("postgres", "-c", "max_connections=200");
+        this.redis = new GenericContainer<>(REDIS_IMAGE).withExposedPorts(REDIS_PORT);
+    }
+
+    public static LoadTestContainers start() {
+        LoadTestContainers containers = new LoadTestContainers();
+        containers.postgres.start();
+        containers.redis.start();
+        log.info("컨테이너 시작 완료 : " + containers.postgres.getJdbcUrl()
+                + ", redis " + containers.redis.getHost() + ":" + containers.redis.getMappedPort(REDIS_PORT));
+        return containers;
+    }
+
+    public List<String> applicationArguments() {
+        return List.of(
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.data.redis.host=" + redis.getHost(),
+                "--spring.data.redis.port=" + redis.getMappedPort(REDIS_PORT)
+        );
+    }
+
+    @Override
+    public void close() {
+        redis.stop();
+        postgres.stop();
+    }
+}
@@ -0,0 +1,24 @@
+package com.sparta.moit.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/* 시드 결과 : 요청 생성에 필요한 회원 / 모임 / 참가 정보 */
+@Getter
+@RequiredArgsConstructor
+public class LoadTestData {
+    private final List<String> memberEmails;
+    private final List<Long> meetingIds;
+    private final List<Membership> memberships;
+    private final List<String> keywords;
+
+    /* memberIndex : memberEmails 의 위치 */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Membership {
+        private final int memberIndex;
+        private final Long meetingId;
+    }
+}
@@ -0,0 +1,251 @@
+package com.sparta.moit.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.moit.global.util.CareerMapper;
+import com.sparta.moit.global.util.KoreanBigramTokenizer;
+import com.sparta.moit.global.util.SkillMapper;
+import com.sparta.moit.global.util.TagMask;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+ * 부하 테스트 데이터 시드 (JDBC batch)
+ * 1. 회원
+ * 2. 모임 : 중심 좌표 기준 spreadKm 범위에 분포, 기술/경력은 bigint[] 와 jsonb 모두 저장, 모임 날짜는 미래
+ * 3. 참가 : 작성자 + 회원별 joinsPerMember 개 (정원 이내), registered_count / status 도 함께 맞춤
+ * 4. 북마크, 채팅
+ */
+@Slf4j(topic = "LoadTestDataSeeder")
+@RequiredArgsConstructor
+public class LoadTestDataSeeder {
+    private static final int BATCH_SIZE = 1_000;
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final String[] TOPICS = {"스프링", "자바", "리액트", "파이썬", "코틀린", "알고리즘", "JPA", "도커", "쿠버네티스", "CS"};
+    private static final String[] KINDS = {"스터디", "모각코", "면접 준비", "코드 리뷰", "사이드 프로젝트"};
+    private static final String[] DISTRICTS = {"강남구", "마포구", "종로구", "성동구", "송파구", "영등포구", "관악구", "서초구"};
+
+    private static final String MEMBER_SQL = "INSERT INTO member (username, email, role, status) VALUES (?, ?, 'USER', 'MEMBER')";
+    private static final String MEETING_SQL = "INSERT INTO meeting (meeting_name, meeting_date, meeting_start_time, meeting_end_time, budget, "
+            + "location_address, contents, registered_count, total_count, location_lat, location_lng, location_position, "
+            + "region_first_name, region_second_name, status, member_id, skill_list, career_list, skill_id_list, career_id_list, "
+            + "skill_mask, career_mask, search_document, created_at, modified_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ST_SetSRID(ST_MakePoint(?, ?), 4326)::geography, "
+            + "'서울특별시', ?, ?, ?, ?::jsonb, ?::jsonb, ?::bigint[], ?::bigint[], ?, ?, ?, now(), now())";
+    private static final String MEETING_MEMBER_SQL = "INSERT INTO meeting_member (meeting_id, member_id) VALUES (?, ?)";
+    private static final String BOOKMARK_SQL = "INSERT INTO book_mark (meeting_id, member_id) VALUES (?, ?)";
+    private static final String CHAT_SQL = "INSERT INTO chat (content, member_id, meeting_id, created_at, modified_at) "
+            + "VALUES (?, ?, ?, now() - make_interval(secs => ?), now() - make_interval(secs => ?))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final LoadTestConfig config;
+    private final Random random = new Random(20240501L);
+
+    public LoadTestData seed() {
+        long start = System.currentTimeMillis();
+
+        List<String> emails = new ArrayList<>(config.getMembers());
+        List<Object[]> memberRows = new ArrayList<>(config.getMembers());
+        for (int i = 0; i < config.getMembers(); i++) {
+            String email = "loadtest" + i + "@moit.me";
+            emails.add(email);
+            memberRows.add(new Object[]{"부하테스트" + i, email});
+        }
+        batch(MEMBER_SQL, memberRows);
+        List<Long> memberIds = jdbcTemplate.queryForList(
+                "SELECT id FROM member WHERE email LIKE 'loadtest%@moit.me' ORDER BY id", Long.class);
+
+        List<String> keywords = new ArrayList<>();
+        for (String topic : TOPICS) {
+            keywords.add(topic);
+            keywords.add(topic + " " + KINDS[random.nextInt(KINDS.length)]);
+        }
+
+        int[] creatorIndexes = new int[config.getMeetings()];
+        int[] totalCounts = new int[config.getMeetings()];
+        List<Object[]> meetingRows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < config.getMeetings(); i++) {
+            creatorIndexes[i] = random.nextInt(memberIds.size());
+            totalCounts[i] = 4 + random.nextInt(17);
+            meetingRows.add(meetingRow(i, memberIds.get(creatorIndexes[i]), totalCounts[i]));
+            if (meetingRows.size() == BATCH_SIZE) {
+                batch(MEETING_SQL, meetingRows);
+                meetingRows.clear();
+            }
+        }
+        batch(MEETING_SQL, meetingRows);
+        List<Long> meetingIds = jdbcTemplate.queryForList("SELECT id FROM meeting ORDER BY id", Long.class);
+
+        List<LoadTestData.Membership> memberships = seedMemberships(memberIds, meetingIds, creatorIndexes, totalCounts);
+        seedBookmarks(memberIds, meetingIds);
+        seedChats(memberIds, memberships);
+
+        log.info("시드 완료 : 회원 " + memberIds.size() + ", 모임 " + meetingIds.size() + ", 참가 " + memberships.size()
+                + " (" + (System.currentTimeMillis() - start) + "ms)");
+        return new LoadTestData(emails, meetingIds, memberships, keywords);
+    }
+
+    private Object[] meetingRow(int index, Long creatorId, int totalCount) {
+        String topic = TOPICS[random.nextInt(TOPICS.length)];
+        String meetingName = topic + " " + KINDS[random.nextInt(KINDS.length)] + " " + index;
+        String district = DISTRICTS[random.nextInt(DISTRICTS.length)];
+        String address = "서울특별시 " + district + " 테스트로 " + (1 + random.nextInt(300));
+        String contents = topic + " 를 함께 공부하는 모임입니다. 초보자도 환영합니다.";
+
+        /* 중심 좌표 기준 spreadKm 반경 안의 임의 위치 */
+        double distanceKm = config.getSpreadKm() * Math.sqrt(random.nextDouble());
+        double angle = random.nextDouble() * 2 * Math.PI;
+        double lat = config.getCenterLat() + distanceKm * Math.cos(angle) / KM_PER_DEGREE;
+        double lng = config.getCenterLng() + distanceKm * Math.sin(angle) / (KM_PER_DEGREE * Math.cos(Math.toRadians(config.getCenterLat())));
+
+        List<Long> skillIds = randomIds(1 + random.nextInt(4), 52);
+        List<Long> careerIds = randomIds(1 + random.nextInt(2), 5);
+
+        LocalDate meetingDate = LocalDate.now().plusDays(1 + random.nextInt(60));
+        int startHour = 9 + random.nextInt(10);
+        return new Object[]{
+                meetingName,
+                Date.valueOf(meetingDate),
+                Timestamp.valueOf(meetingDate.atTime(startHour, 0)),
+                Timestamp.valueOf(meetingDate.atTime(startHour + 2, 0)),
+                random.nextInt(5) * 5000,
+                address,
+                contents,
+                1,
+                totalCount,
+                lat,
+                lng,
+                lng,
+                lat,
+                district,
+                "OPEN",
+                creatorId,
+                toJson(SkillMapper.createSkillResponseList(skillIds)),
+                toJson(CareerMapper.createCareerResponseList(careerIds)),
+                toArrayLiteral(skillIds),
+                toArrayLiteral(careerIds),
+                TagMask.of(skillIds),
+                TagMask.of(careerIds),
+                KoreanBigramTokenizer.toDocument(meetingName, address, contents)
+        };
+    }
+
+    private List<LoadTestData.Membership> seedMemberships(List<Long> memberIds, List<Long> meetingIds, int[] creatorIndexes, int[] totalCounts) {
+        List<LoadTestData.Membership> memberships = new ArrayList<>();
+        Set<Long> joined = new HashSet<>();
+        int[] registeredCounts = new int[meetingIds.size()];
+
+        for (int i = 0; i < meetingIds.size(); i++) {
+            memberships.add(new LoadTestData.Membership(creatorIndexes[i], meetingIds.get(i)));
+            joined.add(pairKey(creatorIndexes[i], i));
+            registeredCounts[i] = 1;
+        }
+        for (int memberIndex = 0; memberIndex < memberIds.size(); memberIndex++) {
+            for (int j = 0; j < config.getJoinsPerMember(); j++) {
+                int meetingIndex = random.nextInt(meetingIds.size());
+                if (registeredCounts[meetingIndex] >= totalCounts[meetingIndex] || !joined.add(pairKey(memberIndex, meetingIndex))) {
+                    continue;
+                }
+                registeredCounts[meetingIndex]++;
+                memberships.add(new LoadTestData.Membership(memberIndex, meetingIds.get(meetingIndex)));
+            }
+        }
+
+        batch(MEETING_MEMBER_SQL, memberships.stream()
+                .map(membership -> new Object[]{membership.getMeetingId(), memberIds.get(membership.getMemberIndex())})
+                .toList());
+
+        List<Object[]> countRows = new ArrayList<>(meetingIds.size());
+        for (int i = 0; i < meetingIds.size(); i++) {
+            String status = registeredCounts[i] >= totalCounts[i] ? "FULL" : "OPEN";
+            countRows.add(new Object[]{registeredCounts[i], status, meetingIds.get(i)});
+        }
+        batch("UPDATE meeting SET registered_count = ?, status = ? WHERE id = ?", countRows);
+        return memberships;
+    }
+
+    private void seedBookmarks(List<Long> memberIds, List<Long> meetingIds) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            for (Long meetingId : randomDistinct(meetingIds, config.getBookmarksPerMember())) {
+                rows.add(new Object[]{meetingId, memberId});
+            }
+        }
+        batch(BOOKMARK_SQL, rows);
+    }
+
+    /* 채팅은 앞쪽 chatMeetings 개 모임의 참가자가 작성 */
+    private void seedChats(List<Long> memberIds, List<LoadTestData.Membership> memberships) {
+        Map<Long, List<Long>> writersByMeeting = memberships.stream()
+                .collect(Collectors.groupingBy(LoadTestData.Membership::getMeetingId, LinkedHashMap::new,
+                        Collectors.mapping(membership -> memberIds.get(membership.getMemberIndex()), Collectors.toList())));
+
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (Map.Entry<Long, List<Long>> entry : writersByMeeting.entrySet().stream().limit(config.getChatMeetings()).toList()) {
+            Long meetingId = entry.getKey();
+            List<Long> writers = entry.getValue();
+            for (int i = 0; i < config.getChatsPerMeeting(); i++) {
+                int secondsAgo = (config.getChatsPerMeeting() - i) * 30;
+                rows.add(new Object[]{"부하 테스트 채팅 " + i, writers.get(random.nextInt(writers.size())), meetingId, secondsAgo, secondsAgo});
+                if (rows.size() == BATCH_SIZE) {
+                    batch(CHAT_SQL, rows);
+                    rows.clear();
+                }
+            }
+        }
+        batch(CHAT_SQL, rows);
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+
+    private List<Long> randomIds(int count, int maxId) {
+        Set<Long> ids = new HashSet<>();
+        while (ids.size() < count) {
+            ids.add((long) (1 + random.nextInt(maxId)));
+        }
+        return ids.stream().sorted().toList();
+    }
+
+    private List<Long> randomDistinct(List<Long> source, int count) {
+        Set<Long> picked = new HashSet<>();
+        int limit = Math.min(count, source.size());
+        while (picked.size() < limit) {
+            picked.add(source.get(random.nextInt(source.size())));
+        }
+        return new ArrayList<>(picked);
+    }
+
+    private long pairKey(int memberIndex, int meetingIndex) {
+        return ((long) memberIndex << 32) | meetingIndex;
+    }
+
+    private String toArrayLiteral(List<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(",", "{", "}"));
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.sparta.moit.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.moit.MoitApplication;
+import com.sparta.moit.domain.meeting.index.MeetingGeoIndex;
+import com.sparta.moit.domain.meeting.popular.PopularMeetingRanking;
+import com.sparta.moit.domain.member.entity.UserRoleEnum;
+import com.sparta.moit.domain.member.stats.MemberStatsUpdater;
+import com.sparta.moit.global.jwt.JwtUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 부하 테스트 실행 (./gradlew loadTest)
+ * 1. PostGIS / Redis 컨테이너 시작 후 loadtest 프로필로 애플리케이션 기동 (임의 포트)
+ * 2. 데이터 시드 후 위치 인덱스, 인기 모임, 회원 통계를 시드 데이터로 다시 적재
+ * 3. concurrency 개의 워커가 loadtest.mix 가중치대로 요청 (closed loop), warm-up 이후부터 집계
+ * 4. 경로별 p50 / p99 / 처리량 출력
+ */
+@Slf4j(topic = "LoadTestRunner")
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        try (LoadTestContainers containers = LoadTestContainers.start()) {
+            List<String> arguments = new ArrayList<>(containers.applicationArguments());
+            arguments.add("--spring.profiles.active=loadtest");
+            arguments.add("--server.port=0");
+
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MoitApplication.class)
+                    .run(arguments.toArray(String[]::new))) {
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+                LoadTestData data = new LoadTestDataSeeder(context.getBean(JdbcTemplate.class),
+                        context.getBean(ObjectMapper.class), config).seed();
+                context.getBean(MeetingGeoIndex.class).rebuild();
+                context.getBean(PopularMeetingRanking.class).reconcile();
+                context.getBean(MemberStatsUpdater.class).initialize();
+
+                JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+                List<String> tokens = data.getMemberEmails().stream()
+                        .map(email -> jwtUtil.createToken(email, UserRoleEnum.USER))
+                        .toList();
+
+                run(config, baseUrl, data, tokens);
+            }
+        }
+    }
+
+    private static void run(LoadTestConfig config, String baseUrl, LoadTestData data, List<String> tokens) throws Exception {
+        HttpTraffic httpTraffic = new HttpTraffic(baseUrl, config, data, tokens);
+        LatencyRecorder recorder = new LatencyRecorder();
+        RouteSelector selector = new RouteSelector(config.getMix());
+
+        try (StompChatTraffic chatTraffic = new StompChatTraffic()) {
+            if (config.getMix().containsKey(Route.CHAT_SEND)) {
+                chatTraffic.connect(baseUrl, data, tokens, config.getChatSessions());
+            }
+
+            long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.getWarmupSeconds());
+            long end = warmupEnd + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+
+            ExecutorService workers = Executors.newFixedThreadPool(config.getConcurrency());
+            for (int i = 0; i < config.getConcurrency(); i++) {
+                workers.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        Route route = selector.next();
+                        long start = System.nanoTime();
+                        try {
+                            boolean succeeded = route == Route.CHAT_SEND ? chatTraffic.send() : httpTraffic.execute(route);
+                            if (succeeded) {
+                                recorder.success(route, System.nanoTime() - start);
+                            } else {
+                                recorder.failure(route);
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            recorder.failure(route);
+                        }
+                    }
+                });
+            }
+
+            log.info("warm-up " + config.getWarmupSeconds() + "초, 측정 " + config.getDurationSeconds()
+                    + "초, 동시 요청 " + config.getConcurrency() + ", 요청 비율 " + config.getMix());
+            TimeUnit.NANOSECONDS.sleep(warmupEnd - System.nanoTime());
+            recorder.startRecording();
+
+            workers.shutdown();
+            workers.awaitTermination(config.getDurationSeconds() + 30L, TimeUnit.SECONDS);
+            recorder.report();
+        }
+    }
+
+    /* 가중치 비례 경로 선택 */
+    private static class RouteSelector {
+        private final Route[] routes;
+        private final int[] cumulativeWeights;
+
+        RouteSelector(Map<Route, Integer> mix) {
+            this.routes = mix.keySet().toArray(Route[]::new);
+            this.cumulativeWeights = new int[routes.length];
+            int sum = 0;
+            for (int i = 0; i < routes.length; i++) {
+                sum += mix.get(routes[i]);
+                cumulativeWeights[i] = sum;
+            }
+        }
+
+        Route next() {
+            int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < routes.length; i++) {
+                if (value < cumulativeWeights[i]) {
+                    return routes[i];
+                }
+            }
+            return routes[routes.length - 1];
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.sparta.moit.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/* 부하 테스트 대상 경로 (key : loadtest.mix 설정 이름) */
+@Getter
+@RequiredArgsConstructor
+public enum Route {
+    FEED("feed", "GET /api/meetings/cursor"),
+    SEARCH("search", "GET /api/meetings/search/cursor"),
+    DETAIL("detail", "GET /api/meetings/{meetingId}"),
+    JOIN("join", "POST /api/meetings/my-meetings/{meetingId}"),
+    CHAT_HISTORY("chat-history", "GET /api/meetings/{meetingId}/chats"),
+    CHAT_SEND("chat-send", "STOMP /app/api/meetings/{meetingId}/chat");
+
+    private final String key;
+    private final String description;
+
+    public static Route fromKey(String key) {
+        for (Route route : values()) {
+            if (route.key.equals(key)) {
+                return route;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 경로 : " + key);
+    }
+}
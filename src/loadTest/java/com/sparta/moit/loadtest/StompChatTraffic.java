@@ -0,0 +1,102 @@
+package com.sparta.moit.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/*
+ * STOMP 채팅 전송
+ * 1. 참가 중인 모임으로 chatSessions 개의 세션을 연결하고 /topic/rooms/{meetingId}/chat 구독
+ * 2. 고유 내용으로 SEND 후 같은 내용이 구독으로 돌아올 때까지의 시간을 응답 시간으로 기록
+ */
+@Slf4j(topic = "StompChatTraffic")
+public class StompChatTraffic implements AutoCloseable {
+    private static final long CONNECT_TIMEOUT_SECONDS = 10;
+    private static final long ECHO_TIMEOUT_SECONDS = 5;
+
+    private final WebSocketStompClient stompClient;
+    private final List<ChatSession> sessions = new ArrayList<>();
+    private final Map<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+
+    public StompChatTraffic() {
+        this.stompClient = new WebSocketStompClient(new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        this.stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+    }
+
+    public void connect(String baseUrl, LoadTestData data, List<String> tokens, int sessionCount) throws Exception {
+        String endpoint = baseUrl.replaceFirst("^http", "ws") + "/ws";
+        for (int i = 0; i < Math.min(sessionCount, data.getMemberships().size()); i++) {
+            LoadTestData.Membership membership = data.getMemberships().get(i);
+
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add("Authorization", tokens.get(membership.getMemberIndex()));
+            StompSession session = stompClient.connectAsync(endpoint, new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+            }).get(CONNECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            session.subscribe("/topic/rooms/" + membership.getMeetingId() + "/chat", new EchoHandler());
+            sessions.add(new ChatSession(session, membership.getMeetingId()));
+        }
+        log.info("STOMP 세션 연결 완료 : " + sessions.size() + "개");
+    }
+
+    /* 전송한 채팅이 구독으로 돌아오면 true */
+    public boolean send() throws Exception {
+        ChatSession chatSession = sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+        String content = "lt-" + UUID.randomUUID();
+        CompletableFuture<Void> echo = new CompletableFuture<>();
+        pending.put(content, echo);
+        try {
+            chatSession.session().send("/app/api/meetings/" + chatSession.meetingId() + "/chat", Map.of("content", content));
+            echo.get(ECHO_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } finally {
+            pending.remove(content);
+        }
+    }
+
+    @Override
+    public void close() {
+        sessions.forEach(chatSession -> chatSession.session().disconnect());
+        stompClient.stop();
+    }
+
+    private record ChatSession(StompSession session, Long meetingId) {
+    }
+
+    private class EchoHandler implements StompFrameHandler {
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return Map.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            Object content = ((Map<?, ?>) payload).get("content");
+            CompletableFuture<Void> echo = content == null ? null : pending.get(content.toString());
+            if (echo != null) {
+                echo.complete(null);
+            }
+        }
+    }
+}
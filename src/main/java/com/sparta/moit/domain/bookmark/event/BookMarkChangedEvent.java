@@ -0,0 +1,23 @@
+package com.sparta.moit.domain.bookmark.event;
+
+import lombok.Getter;
+
+/* 북마크 추가/삭제 시 발행되는 이벤트 (커밋 이후 인기 모임 순위 갱신용) */
+@Getter
+public class BookMarkChangedEvent {
+    private final Long meetingId;
+    private final boolean added;
+
+    private BookMarkChangedEvent(Long meetingId, boolean added) {
+        this.meetingId = meetingId;
+        this.added = added;
+    }
+
+    public static BookMarkChangedEvent added(Long meetingId) {
+        return new BookMarkChangedEvent(meetingId, true);
+    }
+
+    public static BookMarkChangedEvent removed(Long meetingId) {
+        return new BookMarkChangedEvent(meetingId, false);
+    }
+}
@@ -0,0 +1,8 @@
+package com.sparta.moit.domain.bookmark.repository;
+
+/* 모임별 북마크 수 */
+public interface BookMarkCount {
+    Long getMeetingId();
+
+    Long getCount();
+}
@@ -16,4 +16,10 @@ public interface BookMarkRepository extends JpaRepository<BookMark, Long> {
     List<Meeting> findBookmarkedMeetingsByMemberId(Long memberId);
     boolean existsByMemberIdAndMeetingId(Long memberId, Long meetingId);
     List<BookMark> findByMemberId(Long memberId);
+
+    /* OPEN, FULL 모임의 북마크 수 (인기 모임 순위 보정용) */
+    @Query("SELECT b.meeting.id AS meetingId, COUNT(b) AS count FROM BookMark b " +
+            "WHERE b.meeting.status = 'OPEN' OR b.meeting.status = 'FULL' " +
+            "GROUP BY b.meeting.id")
+    List<BookMarkCount> countByOpenOrFullMeeting();
 }
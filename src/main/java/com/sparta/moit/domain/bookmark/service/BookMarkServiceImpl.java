@@ -2,13 +2,16 @@ package com.sparta.moit.domain.bookmark.service;
 
 import com.sparta.moit.domain.bookmark.dto.BookMarkResponseDto;
 import com.sparta.moit.domain.bookmark.entity.BookMark;
+import com.sparta.moit.domain.bookmark.event.BookMarkChangedEvent;
 import com.sparta.moit.domain.bookmark.repository.BookMarkRepository;
 import com.sparta.moit.domain.meeting.entity.Meeting;
+import com.sparta.moit.domain.meeting.entity.MeetingStatusEnum;
 import com.sparta.moit.domain.meeting.repository.MeetingRepository;
 import com.sparta.moit.domain.member.entity.Member;
 import com.sparta.moit.global.error.CustomException;
 import com.sparta.moit.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class BookMarkServiceImpl implements BookMarkService {
     private final MeetingRepository meetingRepository;
     private final BookMarkRepository bookMarkRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void addMeetingBookmark(BookMarkResponseDto bookmarkResponseDto, Member member) {
@@ -35,6 +39,11 @@ public class BookMarkServiceImpl implements BookMarkService {
                 .build();
 
         bookMarkRepository.save(bookmark);
+
+        /* 인기 모임 순위는 OPEN, FULL 모임만 집계 */
+        if (meeting.getStatus() == MeetingStatusEnum.OPEN || meeting.getStatus() == MeetingStatusEnum.FULL) {
+            eventPublisher.publishEvent(BookMarkChangedEvent.added(meeting.getId()));
+        }
     }
 
     @Override
@@ -50,6 +59,7 @@ public class BookMarkServiceImpl implements BookMarkService {
                 .orElseThrow(() -> new CustomException(ErrorCode.BOOKMARK_NOT_FOUND));
 
         bookMarkRepository.delete(bookmark);
+        eventPublisher.publishEvent(BookMarkChangedEvent.removed(bookmarkResponseDto.getMeetingId()));
     }
 
     @Override
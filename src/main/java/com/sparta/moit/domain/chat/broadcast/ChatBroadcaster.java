@@ -0,0 +1,10 @@
+package com.sparta.moit.domain.chat.broadcast;
+
+import com.sparta.moit.domain.chat.dto.SendChatResponseDto;
+
+/* 채팅방 구독자에게 채팅 전달 (chat.broker.mode 에 따라 구현체 선택) */
+public interface ChatBroadcaster {
+    String ROOM_TOPIC_FORMAT = "/topic/rooms/%d/chat";
+
+    void broadcast(Long meetingId, SendChatResponseDto message);
+}
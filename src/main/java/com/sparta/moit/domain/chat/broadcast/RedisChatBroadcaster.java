@@ -0,0 +1,84 @@
+package com.sparta.moit.domain.chat.broadcast;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sparta.moit.domain.chat.dto.SendChatResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/*
+ * 다중 서버 : Redis pub/sub 으로 채팅 중계
+ * 1. 전송 서버는 채팅방별 채널(chat:room:{id})에 발행만 함
+ * 2. 모든 서버가 chat:room:* 를 구독하고, 수신한 채팅을 자기 서버의 SimpleBroker 로 전달 (로컬 세션에만 fan-out)
+ * 3. 발행 시각을 함께 보내 발행 ~ 로컬 전달까지의 지연 시간을 기록 (서버 간 시계 오차 포함)
+ */
+@Slf4j(topic = "RedisChatBroadcaster")
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class RedisChatBroadcaster implements ChatBroadcaster, MessageListener {
+    public static final String CHANNEL_PREFIX = "chat:room:";
+    public static final String CHANNEL_PATTERN = CHANNEL_PREFIX + "*";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final Timer deliveryTimer;
+    private final Counter publishFailCounter;
+
+    public RedisChatBroadcaster(RedisTemplate<String, Object> redisTemplate,
+                                SimpMessagingTemplate messagingTemplate,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.deliveryTimer = Timer.builder("chat.broadcast.delivery")
+                .description("Redis 발행부터 로컬 구독자 전달까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.publishFailCounter = meterRegistry.counter("chat.broadcast.publish.fail");
+    }
+
+    @Override
+    public void broadcast(Long meetingId, SendChatResponseDto message) {
+        ObjectNode envelope = objectMapper.createObjectNode();
+        envelope.put("meetingId", meetingId);
+        envelope.put("publishedAt", System.currentTimeMillis());
+        envelope.set("payload", objectMapper.valueToTree(message));
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + meetingId, objectMapper.writeValueAsString(envelope));
+        } catch (JsonProcessingException | RuntimeException e) {
+            /* Redis 장애 시 최소한 같은 서버의 구독자에게는 전달 */
+            publishFailCounter.increment();
+            log.error("채팅 발행 실패, 로컬 전달로 대체 : " + e.getMessage());
+            messagingTemplate.convertAndSend(String.format(ROOM_TOPIC_FORMAT, meetingId), message);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            JsonNode envelope = objectMapper.readTree(new String(message.getBody(), StandardCharsets.UTF_8));
+            long meetingId = envelope.get("meetingId").asLong();
+            messagingTemplate.convertAndSend(String.format(ROOM_TOPIC_FORMAT, meetingId), envelope.get("payload"));
+
+            long elapsed = System.currentTimeMillis() - envelope.get("publishedAt").asLong();
+            deliveryTimer.record(Duration.ofMillis(Math.max(elapsed, 0)));
+        } catch (Exception e) {
+            log.error("채팅 수신 처리 실패 : " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.sparta.moit.domain.chat.broadcast;
+
+import com.sparta.moit.domain.chat.dto.SendChatResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/* 단일 서버 : 인메모리 SimpleBroker 로 바로 전달 */
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "simple", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SimpleChatBroadcaster implements ChatBroadcaster {
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void broadcast(Long meetingId, SendChatResponseDto message) {
+        messagingTemplate.convertAndSend(String.format(ROOM_TOPIC_FORMAT, meetingId), message);
+    }
+}
@@ -0,0 +1,104 @@
+package com.sparta.moit.domain.chat.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.moit.domain.chat.dto.SenderResponseDto;
+import com.sparta.moit.domain.meeting.entity.MeetingStatusEnum;
+import com.sparta.moit.domain.meeting.event.MeetingChangedEvent;
+import com.sparta.moit.domain.meeting.event.MeetingMemberChangedEvent;
+import com.sparta.moit.domain.meeting.repository.MeetingMemberRepository;
+import com.sparta.moit.domain.meeting.repository.MeetingRepository;
+import com.sparta.moit.domain.member.entity.Member;
+import com.sparta.moit.domain.member.repository.MemberRepository;
+import com.sparta.moit.global.error.CustomException;
+import com.sparta.moit.global.error.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/*
+ * 채팅 전송 권한 캐시 (모임 id + 이메일 -> 보낸 사람 정보)
+ * 1. 채팅 전송마다 회원, 모임 상태, 참가 여부를 조회하지 않도록 검증에 성공한 결과만 캐싱
+ * 2. 모임 탈퇴 시 해당 회원 항목, 모임 삭제/완료 시 해당 모임 항목 제거
+ */
+@Slf4j(topic = "ChatMembershipCache")
+@Component
+public class ChatMembershipCache {
+    private final MemberRepository memberRepository;
+    private final MeetingRepository meetingRepository;
+    private final MeetingMemberRepository meetingMemberRepository;
+    private final Cache<String, SenderResponseDto> cache;
+
+    public ChatMembershipCache(MemberRepository memberRepository,
+                               MeetingRepository meetingRepository,
+                               MeetingMemberRepository meetingMemberRepository,
+                               @Value("${chat.membership-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.meetingRepository = meetingRepository;
+        this.meetingMemberRepository = meetingMemberRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /* 채팅 전송 가능한 회원이면 보낸 사람 정보 반환, 아니면 예외 */
+    public SenderResponseDto getSender(Long meetingId, String email) {
+        String key = keyOf(meetingId, email);
+        SenderResponseDto sender = cache.getIfPresent(key);
+        if (sender != null) {
+            return sender;
+        }
+
+        Member member = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_MEETING_MEMBER));
+
+        MeetingStatusEnum status = meetingRepository.findStatusById(meetingId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEETING_NOT_FOUND));
+
+        if (status.equals(MeetingStatusEnum.COMPLETE) || status.equals(MeetingStatusEnum.DELETE)) {
+            throw new CustomException(ErrorCode.MEETING_NOT_FOUND);
+        }
+
+        if (!meetingMemberRepository.existsByMemberIdAndMeetingId(member.getId(), meetingId)) {
+            throw new CustomException(ErrorCode.NOT_MEETING_MEMBER);
+        }
+
+        sender = SenderResponseDto.fromEntity(member);
+        cache.put(key, sender);
+        return sender;
+    }
+
+    public void evict(Long meetingId, String email) {
+        cache.invalidate(keyOf(meetingId, email));
+    }
+
+    /* 탈퇴한 회원의 항목 제거 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingMemberChanged(MeetingMemberChangedEvent event) {
+        if (!event.isJoined()) {
+            evict(event.getMeetingId(), event.getEmail());
+        }
+    }
+
+    /* 삭제/완료된 모임의 항목 제거 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        switch (event.getType()) {
+            case DELETED, COMPLETED -> {
+                String prefix = event.getMeetingId() + ":";
+                cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+            }
+            default -> {
+            }
+        }
+    }
+
+    private String keyOf(Long meetingId, String email) {
+        return meetingId + ":" + email;
+    }
+}
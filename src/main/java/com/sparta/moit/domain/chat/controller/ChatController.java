@@ -1,9 +1,12 @@
 package com.sparta.moit.domain.chat.controller;
 
+import com.sparta.moit.domain.chat.broadcast.ChatBroadcaster;
 import com.sparta.moit.domain.chat.controller.docs.ChatControllerDocs;
+import com.sparta.moit.domain.chat.dto.ChatCursorResponseDto;
 import com.sparta.moit.domain.chat.dto.ChatResponseDto;
 import com.sparta.moit.domain.chat.dto.SendChatRequestDto;
 import com.sparta.moit.domain.chat.service.ChatService;
+import com.sparta.moit.global.aspect.QueryBudget;
 import com.sparta.moit.global.common.dto.ResponseDto;
 import com.sparta.moit.global.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
@@ -11,8 +14,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,7 +28,7 @@ import java.time.LocalDateTime;
 public class ChatController implements ChatControllerDocs {
 
     private final ChatService chatService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatBroadcaster chatBroadcaster;
 
     /* 채팅방 입장 전 채팅 목록 불러오기 */
     @GetMapping("/api/meetings/{meetingId}/chats/{userEnterTime}")
@@ -38,12 +41,23 @@ public class ChatController implements ChatControllerDocs {
         return ResponseEntity.ok().body(ResponseDto.success("채팅 불러오기 완료", responseDto));
     }
 
+    /* 채팅 목록 커서 조회 (응답의 nextBeforeChatId 로 이전 채팅 요청) */
+    @GetMapping("/api/meetings/{meetingId}/chats")
+    @QueryBudget(3)
+    public ResponseEntity<ResponseDto<ChatCursorResponseDto>> getChatListByCursor(@PathVariable Long meetingId
+            , @RequestParam(required = false) Long beforeChatId
+            , @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        ChatCursorResponseDto responseDto = chatService.getChatListByCursor(meetingId, beforeChatId, userDetails.getUser());
+        return ResponseEntity.ok().body(ResponseDto.success("채팅 불러오기 완료", responseDto));
+    }
+
     /* 채팅 보내기, 구독하기 */
     @MessageMapping("/api/meetings/{meetingId}/chat")
     public void sendChat(@DestinationVariable Long meetingId
             , Principal principal
+            , @Header("simpSessionId") String sessionId
             , @RequestBody SendChatRequestDto sendChatRequestDto) {
         String email = principal.getName();
-        messagingTemplate.convertAndSend("/topic/rooms/" + meetingId + "/chat", chatService.sendChat(meetingId, email, sendChatRequestDto));
+        chatBroadcaster.broadcast(meetingId, chatService.sendChat(meetingId, sessionId, email, sendChatRequestDto));
     }
 }
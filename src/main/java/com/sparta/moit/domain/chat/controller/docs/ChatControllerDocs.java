@@ -21,4 +21,9 @@ public interface ChatControllerDocs {
               @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime userEnterTime
             , @AuthenticationPrincipal UserDetailsImpl userDetails);
 
+    @Operation(summary = "채팅 목록 커서 조회 기능", description = "beforeChatId 이전 채팅 20건을 최신순으로 조회 (첫 요청은 beforeChatId 생략)")
+    ResponseEntity<?> getChatListByCursor(@PathVariable Long meetingId
+            , @RequestParam(required = false) Long beforeChatId
+            , @AuthenticationPrincipal UserDetailsImpl userDetails);
+
 }
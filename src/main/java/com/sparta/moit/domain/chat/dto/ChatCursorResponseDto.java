@@ -0,0 +1,31 @@
+package com.sparta.moit.domain.chat.dto;
+
+import com.sparta.moit.domain.meeting.entity.MeetingStatusEnum;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ChatCursorResponseDto {
+
+    private final Long meetingId;
+
+    private final MeetingStatusEnum meetingStatusEnum;
+
+    private final List<SingleChatResponseDto> chats;
+
+    private final boolean hasNext;
+
+    /* 다음 요청의 beforeChatId (다음 페이지가 없으면 null) */
+    private final Long nextBeforeChatId;
+
+    @Builder
+    public ChatCursorResponseDto(Long meetingId, MeetingStatusEnum meetingStatusEnum, List<SingleChatResponseDto> chats, boolean hasNext, Long nextBeforeChatId) {
+        this.meetingId = meetingId;
+        this.meetingStatusEnum = meetingStatusEnum;
+        this.chats = chats;
+        this.hasNext = hasNext;
+        this.nextBeforeChatId = nextBeforeChatId;
+    }
+}
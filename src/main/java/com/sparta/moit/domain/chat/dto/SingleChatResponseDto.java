@@ -25,6 +25,11 @@ public class SingleChatResponseDto {
         this.createdAt = createdAt.atZone(ZoneId.of("UTC")).withZoneSameInstant(ZoneId.of("Asia/Seoul"));
     }
 
+    /* QueryDSL 프로젝션용 */
+    public SingleChatResponseDto(Long chatId, Long memberId, String memberName, String memberEmail, String content, LocalDateTime createdAt) {
+        this(chatId, new SenderResponseDto(memberId, memberName, memberEmail), content, createdAt);
+    }
+
     public static SingleChatResponseDto fromEntity(Chat chat) {
         return SingleChatResponseDto.builder()
                 .chatId(chat.getId())
@@ -9,6 +9,7 @@ import lombok.*;
 
 @Entity
 @Getter
+@Table(indexes = @Index(name = "idx_chat_meeting_id_id", columnList = "meeting_id, id")) /* 채팅방별 커서 조회용 */
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Chat extends Timestamped {
@@ -0,0 +1,38 @@
+package com.sparta.moit.domain.chat.queue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/*
+ * chat.id 발급기
+ * 저장 전에 브로드캐스트하기 위해 chat 테이블의 id 시퀀스에서 blockSize 개의 id 를 한 번에 받아 두고 채팅마다 하나씩 사용
+ * (엔티티 저장과 같은 시퀀스를 사용하므로 id 충돌 없음, 서버 종료 시 남은 id 는 버려지므로 id 에 빈 구간이 생길 수 있음)
+ * 서버마다 받은 묶음이 다르므로 서버 간 id 순서는 전송 순서와 조금 어긋날 수 있으나, beforeChatId 커서는 id 순서만 사용하므로 건너뛰거나 중복하지 않음
+ */
+@Component
+public class ChatIdAllocator {
+    private static final String NEXT_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence('chat', 'id')) FROM generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int blockSize;
+    private final Deque<Long> reservedIds = new ArrayDeque<>();
+
+    public ChatIdAllocator(JdbcTemplate jdbcTemplate,
+                           @Value("${chat.id-allocator.block-size:100}") int blockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blockSize = Math.max(blockSize, 1);
+    }
+
+    /* 받아 둔 id 가 없을 때만 DB 조회 (blockSize 건당 한 번) */
+    public synchronized Long nextId() {
+        if (reservedIds.isEmpty()) {
+            reservedIds.addAll(jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, blockSize));
+        }
+        return reservedIds.poll();
+    }
+}
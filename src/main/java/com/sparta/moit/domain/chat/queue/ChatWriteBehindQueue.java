@@ -0,0 +1,170 @@
+package com.sparta.moit.domain.chat.queue;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 채팅 write-behind 큐
+ * 1. 채팅 전송 스레드는 큐에 넣기만 하고 바로 브로드캐스트
+ * 2. 저장 스레드가 큐를 batchSize 단위로 비우며 JDBC batch insert
+ * 3. 큐가 가득 차면 offerTimeoutMs 만큼 대기 후, 그래도 실패하면 전송 스레드에서 직접 저장 (backpressure)
+ * 4. 종료 시 남은 채팅을 모두 저장
+ */
+@Slf4j(topic = "ChatWriteBehindQueue")
+@Component
+public class ChatWriteBehindQueue {
+    private static final String INSERT_SQL =
+            "INSERT INTO chat (id, content, member_id, meeting_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?) " +
+                    "ON CONFLICT (id) DO NOTHING"; /* 일부만 커밋된 batch 를 재시도해도 중복 오류 없음 */
+    private static final int MAX_RETRY = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<PendingChat> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+
+    private final Timer flushTimer;
+    private final Counter savedCounter;
+    private final Counter overflowCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running = true;
+    private Thread flusher;
+
+    public ChatWriteBehindQueue(JdbcTemplate jdbcTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${chat.write-behind.capacity:10000}") int capacity,
+                                @Value("${chat.write-behind.batch-size:500}") int batchSize,
+                                @Value("${chat.write-behind.flush-interval-ms:100}") long flushIntervalMs,
+                                @Value("${chat.write-behind.offer-timeout-ms:50}") long offerTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+
+        Gauge.builder("chat.write_behind.queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 채팅 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.write_behind.flush")
+                .description("채팅 batch insert 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.savedCounter = meterRegistry.counter("chat.write_behind.saved");
+        this.overflowCounter = meterRegistry.counter("chat.write_behind.overflow");
+        this.droppedCounter = meterRegistry.counter("chat.write_behind.dropped");
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = new Thread(this::runFlushLoop, "chat-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /* 큐가 가득 차 대기 시간 안에 넣지 못하면 호출 스레드에서 바로 저장 */
+    public void enqueue(PendingChat chat) {
+        try {
+            if (running && queue.offer(chat, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        overflowCounter.increment();
+        insert(List.of(chat));
+    }
+
+    private void runFlushLoop() {
+        List<PendingChat> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingChat first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flushWithRetry(batch);
+            } catch (InterruptedException e) {
+                /* 종료 요청 : 루프 조건에서 남은 항목 처리 */
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /*
+     * 일시적 오류는 MAX_RETRY 까지 재시도
+     * 데이터 오류(제약 조건 위반 등)는 batch 를 절반씩 나누어 저장하여 문제 있는 채팅만 제외
+     */
+    private void flushWithRetry(List<PendingChat> batch) {
+        RuntimeException lastError = null;
+        for (int attempt = 1; attempt <= MAX_RETRY; attempt++) {
+            try {
+                flushTimer.record(() -> insert(batch));
+                return;
+            } catch (NonTransientDataAccessException e) {
+                lastError = e;
+                break;
+            } catch (RuntimeException e) {
+                lastError = e;
+                log.error("채팅 batch insert 실패 (" + attempt + "/" + MAX_RETRY + ") : " + e.getMessage());
+            }
+        }
+
+        if (lastError instanceof NonTransientDataAccessException && batch.size() > 1) {
+            int half = batch.size() / 2;
+            flushWithRetry(batch.subList(0, half));
+            flushWithRetry(batch.subList(half, batch.size()));
+            return;
+        }
+        droppedCounter.increment(batch.size());
+        log.error("채팅 " + batch.size() + "건 저장 실패, first id : " + batch.get(0).getId() + " : " + lastError.getMessage());
+    }
+
+    private void insert(List<PendingChat> chats) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, chats, chats.size(), (ps, chat) -> {
+            Timestamp createdAt = Timestamp.valueOf(chat.getCreatedAt());
+            ps.setLong(1, chat.getId());
+            ps.setString(2, chat.getContent());
+            ps.setLong(3, chat.getMemberId());
+            ps.setLong(4, chat.getMeetingId());
+            ps.setTimestamp(5, createdAt);
+            ps.setTimestamp(6, createdAt);
+        });
+        savedCounter.increment(chats.size());
+    }
+
+    /* 종료 시 남은 채팅 저장 */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+
+        List<PendingChat> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            flushWithRetry(remaining.subList(from, Math.min(remaining.size(), from + batchSize)));
+        }
+        log.info("채팅 write-behind 종료");
+    }
+}
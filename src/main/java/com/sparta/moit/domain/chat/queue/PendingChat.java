@@ -0,0 +1,23 @@
+package com.sparta.moit.domain.chat.queue;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/* DB 저장 대기 중인 채팅 (id 는 ChatIdAllocator 에서 미리 발급) */
+@Getter
+public class PendingChat {
+    private final Long id;
+    private final String content;
+    private final Long memberId;
+    private final Long meetingId;
+    private final LocalDateTime createdAt;
+
+    public PendingChat(Long id, String content, Long memberId, Long meetingId, LocalDateTime createdAt) {
+        this.id = id;
+        this.content = content;
+        this.memberId = memberId;
+        this.meetingId = meetingId;
+        this.createdAt = createdAt;
+    }
+}
@@ -1,12 +1,16 @@
 package com.sparta.moit.domain.chat.repository;
 
+import com.sparta.moit.domain.chat.dto.SingleChatResponseDto;
 import com.sparta.moit.domain.chat.entity.Chat;
 import com.sparta.moit.domain.meeting.entity.Meeting;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ChatRepositoryCustom {
     Slice<Chat> getPreviousChats(Meeting meeting, LocalDateTime userEnterTime, Pageable pageable);
+
+    List<SingleChatResponseDto> getChatsBefore(Long meetingId, Long beforeChatId, int size);
 }
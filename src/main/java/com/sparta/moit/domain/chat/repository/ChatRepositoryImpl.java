@@ -1,7 +1,9 @@
 package com.sparta.moit.domain.chat.repository;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.moit.domain.chat.dto.SingleChatResponseDto;
 import com.sparta.moit.domain.chat.entity.Chat;
 import com.sparta.moit.domain.meeting.entity.Meeting;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +15,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.sparta.moit.domain.chat.entity.QChat.chat;
+import static com.sparta.moit.domain.member.entity.QMember.member;
 
 @RequiredArgsConstructor
 public class ChatRepositoryImpl implements ChatRepositoryCustom{
@@ -42,4 +45,31 @@ public class ChatRepositoryImpl implements ChatRepositoryCustom{
 
         return new SliceImpl<>(chatList, pageable, hasNext);
     }
+
+    /* 커서 조회 : beforeChatId 보다 이전 채팅을 최신순으로 size 만큼 조회 (엔티티 대신 DTO 로 바로 조회) */
+    @Override
+    public List<SingleChatResponseDto> getChatsBefore(Long meetingId, Long beforeChatId, int size) {
+        return queryFactory
+                .select(Projections.constructor(
+                        SingleChatResponseDto.class,
+                        chat.id,
+                        member.id,
+                        member.username,
+                        member.email,
+                        chat.content,
+                        chat.createdAt))
+                .from(chat)
+                .join(chat.member, member)
+                .where(
+                        chat.meeting.id.eq(meetingId),
+                        chatIdLt(beforeChatId)
+                )
+                .orderBy(chat.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    private BooleanExpression chatIdLt(Long beforeChatId) {
+        return beforeChatId != null ? chat.id.lt(beforeChatId) : null;
+    }
 }
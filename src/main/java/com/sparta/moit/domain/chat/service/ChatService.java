@@ -1,5 +1,6 @@
 package com.sparta.moit.domain.chat.service;
 
+import com.sparta.moit.domain.chat.dto.ChatCursorResponseDto;
 import com.sparta.moit.domain.chat.dto.ChatResponseDto;
 import com.sparta.moit.domain.chat.dto.SendChatRequestDto;
 import com.sparta.moit.domain.chat.dto.SendChatResponseDto;
@@ -10,5 +11,9 @@ import java.time.LocalDateTime;
 public interface ChatService {
     ChatResponseDto getChatList(Long meetingId, int page, LocalDateTime userEnterTime, Member member);
 
+    ChatCursorResponseDto getChatListByCursor(Long meetingId, Long beforeChatId, Member member);
+
     SendChatResponseDto sendChat(Long meetingId, String email, SendChatRequestDto chatRequest);
+
+    SendChatResponseDto sendChat(Long meetingId, String sessionId, String email, SendChatRequestDto chatRequest);
 }
@@ -1,9 +1,18 @@
 package com.sparta.moit.domain.chat.service;
 
+import com.sparta.moit.domain.chat.cache.ChatMembershipCache;
+import com.sparta.moit.domain.chat.dto.ChatCursorResponseDto;
 import com.sparta.moit.domain.chat.dto.ChatResponseDto;
 import com.sparta.moit.domain.chat.dto.SendChatRequestDto;
 import com.sparta.moit.domain.chat.dto.SendChatResponseDto;
+import com.sparta.moit.domain.chat.dto.SenderResponseDto;
+import com.sparta.moit.domain.chat.dto.SingleChatResponseDto;
 import com.sparta.moit.domain.chat.entity.Chat;
+import com.sparta.moit.domain.chat.queue.ChatIdAllocator;
+import com.sparta.moit.domain.chat.queue.ChatWriteBehindQueue;
+import com.sparta.moit.domain.chat.queue.PendingChat;
+import com.sparta.moit.domain.chat.session.ChatSession;
+import com.sparta.moit.domain.chat.session.ChatSessionRegistry;
 import com.sparta.moit.domain.chat.repository.ChatRepository;
 import com.sparta.moit.domain.meeting.entity.Meeting;
 import com.sparta.moit.domain.meeting.entity.MeetingStatusEnum;
@@ -15,6 +24,7 @@ import com.sparta.moit.global.error.CustomException;
 import com.sparta.moit.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -23,6 +33,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j(topic = "채팅 로그")
 @RestController
@@ -34,6 +45,15 @@ public class ChatServiceImpl implements ChatService {
     private final MeetingRepository meetingRepository;
     private final MeetingMemberRepository meetingMemberRepository;
     private final MemberRepository memberRepository;
+    private final ChatMembershipCache chatMembershipCache;
+    private final ChatIdAllocator chatIdAllocator;
+    private final ChatWriteBehindQueue chatWriteBehindQueue;
+    private final ChatSessionRegistry chatSessionRegistry;
+
+    @Value("${chat.write-behind.enabled:true}")
+    private boolean writeBehindEnabled;
+
+    private static final int CHAT_CURSOR_SIZE = 20;
 
     @Override
     public ChatResponseDto getChatList(Long meetingId, int page, LocalDateTime userEnterTime, Member member) {
@@ -61,8 +81,61 @@ public class ChatServiceImpl implements ChatService {
         return ChatResponseDto.fromEntity(chatList, meetingId, meeting.getStatus());
     }
 
+    /* 채팅 목록 커서 조회 (beforeChatId 가 없으면 최신 채팅부터) */
+    @Override
+    public ChatCursorResponseDto getChatListByCursor(Long meetingId, Long beforeChatId, Member member) {
+        /*
+         * 모임 엔티티 대신 상태만 조회한다.
+         * 해당 모임에 가입한 유저가 맞는 지 확인한다.
+         * (meeting_id, id) 인덱스로 beforeChatId 이전 채팅을 조회한다.
+         * */
+        MeetingStatusEnum status = meetingRepository.findStatusById(meetingId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEETING_NOT_FOUND));
+
+        if (status.equals(MeetingStatusEnum.DELETE)) {
+            throw new CustomException(ErrorCode.MEETING_NOT_FOUND);
+        }
+
+        if (!meetingMemberRepository.existsByMemberIdAndMeetingId(member.getId(), meetingId)) {
+            throw new CustomException(ErrorCode.NOT_MEETING_MEMBER);
+        }
+
+        List<SingleChatResponseDto> chats = chatRepository.getChatsBefore(meetingId, beforeChatId, CHAT_CURSOR_SIZE + 1);
+
+        boolean hasNext = chats.size() > CHAT_CURSOR_SIZE;
+        if (hasNext) {
+            chats = chats.subList(0, CHAT_CURSOR_SIZE);
+        }
+        Long nextBeforeChatId = hasNext ? chats.get(chats.size() - 1).getChatId() : null;
+
+        return ChatCursorResponseDto.builder()
+                .meetingId(meetingId)
+                .meetingStatusEnum(status)
+                .chats(chats)
+                .hasNext(hasNext)
+                .nextBeforeChatId(nextBeforeChatId)
+                .build();
+    }
+
+    /* WebSocket 세션의 채팅 권한 캐시로 확인 (세션 정보가 없으면 기존 방식, ttl 이 지난 권한은 다시 확인) */
+    @Override
+    public SendChatResponseDto sendChat(Long meetingId, String sessionId, String email, SendChatRequestDto sendChatRequestDto) {
+        ChatSession session = chatSessionRegistry.get(sessionId);
+        if (session == null || !writeBehindEnabled) {
+            return sendChat(meetingId, email, sendChatRequestDto);
+        }
+
+        if (!chatSessionRegistry.canChat(session, meetingId)) {
+            throw new CustomException(ErrorCode.NOT_MEETING_MEMBER);
+        }
+        return enqueueChat(meetingId, session.getSender(), sendChatRequestDto);
+    }
+
     @Override
     public SendChatResponseDto sendChat(Long meetingId, String email, SendChatRequestDto sendChatRequestDto) {
+        if (writeBehindEnabled) {
+            return sendChatWriteBehind(meetingId, email, sendChatRequestDto);
+        }
         /*
          * 해당 모임이 존재하는지 확인한다.
          * 해당 모임에 가입한 유저가 맞는 지 확인한다.
@@ -95,6 +168,28 @@ public class ChatServiceImpl implements ChatService {
         return SendChatResponseDto.fromEntity(chat);
     }
 
+    private SendChatResponseDto sendChatWriteBehind(Long meetingId, String email, SendChatRequestDto sendChatRequestDto) {
+        /*
+         * 캐시에서 채팅 전송 권한을 확인한다.
+         * id 를 미리 발급받아 저장 큐에 넣고, 저장을 기다리지 않고 바로 응답(브로드캐스트)한다.
+         * */
+        SenderResponseDto sender = chatMembershipCache.getSender(meetingId, email);
+        return enqueueChat(meetingId, sender, sendChatRequestDto);
+    }
+
+    private SendChatResponseDto enqueueChat(Long meetingId, SenderResponseDto sender, SendChatRequestDto sendChatRequestDto) {
+        Long chatId = chatIdAllocator.nextId();
+        LocalDateTime createdAt = LocalDateTime.now();
+        chatWriteBehindQueue.enqueue(new PendingChat(chatId, sendChatRequestDto.getContent(), sender.getMemberId(), meetingId, createdAt));
+
+        return SendChatResponseDto.builder()
+                .chatId(chatId)
+                .sender(sender)
+                .content(sendChatRequestDto.getContent())
+                .createdAt(createdAt.plusHours(9))
+                .build();
+    }
+
     private boolean isMeetingMember(Member member, Meeting meeting) {
         return meetingMemberRepository.existsByMemberAndMeeting(member, meeting);
     }
@@ -0,0 +1,40 @@
+package com.sparta.moit.domain.chat.session;
+
+import com.sparta.moit.domain.chat.dto.SenderResponseDto;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/* WebSocket 세션별 회원 정보와 채팅 가능한 모임 id (모임 id -> 참가 여부 확인 시각) */
+@Getter
+public class ChatSession {
+    private final String sessionId;
+    private final SenderResponseDto sender;
+    private final Map<Long, Long> verifiedAtByMeetingId = new ConcurrentHashMap<>();
+
+    public ChatSession(String sessionId, SenderResponseDto sender, Collection<Long> joinedMeetingIds, long verifiedAt) {
+        this.sessionId = sessionId;
+        this.sender = sender;
+        joinedMeetingIds.forEach(meetingId -> verifiedAtByMeetingId.put(meetingId, verifiedAt));
+    }
+
+    public Long getMemberId() {
+        return sender.getMemberId();
+    }
+
+    /* 참가 여부를 확인한 지 ttlMillis 가 지나지 않은 모임만 true */
+    public boolean isVerified(Long meetingId, long now, long ttlMillis) {
+        Long verifiedAt = verifiedAtByMeetingId.get(meetingId);
+        return verifiedAt != null && now - verifiedAt < ttlMillis;
+    }
+
+    public void grant(Long meetingId, long verifiedAt) {
+        verifiedAtByMeetingId.put(meetingId, verifiedAt);
+    }
+
+    public void revoke(Long meetingId) {
+        verifiedAtByMeetingId.remove(meetingId);
+    }
+}
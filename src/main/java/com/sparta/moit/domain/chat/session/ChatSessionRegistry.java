@@ -0,0 +1,140 @@
+package com.sparta.moit.domain.chat.session;
+
+import com.sparta.moit.domain.chat.dto.SenderResponseDto;
+import com.sparta.moit.domain.meeting.entity.MeetingStatusEnum;
+import com.sparta.moit.domain.meeting.event.MeetingChangedEvent;
+import com.sparta.moit.domain.meeting.event.MeetingMemberChangedEvent;
+import com.sparta.moit.domain.meeting.repository.MeetingMemberRepository;
+import com.sparta.moit.domain.member.entity.Member;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * WebSocket 세션 단위 채팅 권한 캐시
+ * 1. CONNECT : 회원 정보와 참가 중인(OPEN/FULL) 모임 id 를 한 번 조회하여 세션에 보관
+ * 2. SUBSCRIBE : 세션에 없는 채팅방 구독 시 참가 여부를 다시 확인하여 반영
+ * 3. 모임 참가/탈퇴, 삭제/완료 이벤트로 갱신하고 DISCONNECT 시 제거
+ * 4. 이벤트는 같은 서버에서만 전달되므로, 확인 후 ttl 이 지난 권한은 채팅 전송 시 참가 여부를 다시 확인
+ *    (다른 서버에서 탈퇴/삭제/완료된 경우에도 최대 ttl 이후에는 채팅 불가)
+ * 채팅 전송 시에는 ttl 이내라면 DB 조회 없이 세션 정보로만 권한 확인
+ */
+@Slf4j(topic = "ChatSessionRegistry")
+@Component
+@RequiredArgsConstructor
+public class ChatSessionRegistry {
+    private static final Pattern CHAT_TOPIC = Pattern.compile("^/topic/rooms/(\\d+)/chat$");
+    private static final List<MeetingStatusEnum> CHAT_AVAILABLE_STATUS = List.of(MeetingStatusEnum.OPEN, MeetingStatusEnum.FULL);
+
+    private final MeetingMemberRepository meetingMemberRepository;
+
+    @Value("${chat.membership-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    private final Map<String, ChatSession> sessions = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> sessionIdsByMember = new ConcurrentHashMap<>();
+
+    public void register(String sessionId, Member member) {
+        List<Long> meetingIds = meetingMemberRepository.findMeetingIdsByMemberIdAndStatusIn(member.getId(), CHAT_AVAILABLE_STATUS);
+        sessions.put(sessionId, new ChatSession(sessionId, SenderResponseDto.fromEntity(member), meetingIds, System.currentTimeMillis()));
+        sessionIdsByMember.computeIfAbsent(member.getId(), key -> ConcurrentHashMap.newKeySet()).add(sessionId);
+    }
+
+    /* 세션에 없는 채팅방을 구독하면 참가 여부를 다시 확인 (다른 서버에서 참가한 경우) */
+    public void subscribe(String sessionId, String destination) {
+        ChatSession session = sessions.get(sessionId);
+        Long meetingId = parseMeetingId(destination);
+        if (session == null || meetingId == null) {
+            return;
+        }
+        canChat(session, meetingId);
+    }
+
+    /* ttl 이내에 확인한 권한은 그대로 사용하고, 지났거나 없으면 참가 여부와 모임 상태를 다시 확인 */
+    public boolean canChat(ChatSession session, Long meetingId) {
+        long now = System.currentTimeMillis();
+        if (session.isVerified(meetingId, now, TimeUnit.SECONDS.toMillis(ttlSeconds))) {
+            return true;
+        }
+        boolean joined = meetingMemberRepository.existsByMemberIdAndMeetingIdAndMeeting_StatusIn(
+                session.getMemberId(), meetingId, CHAT_AVAILABLE_STATUS);
+        if (joined) {
+            session.grant(meetingId, now);
+        } else {
+            session.revoke(meetingId);
+        }
+        return joined;
+    }
+
+    /* 정상 종료, 연결 끊김 모두 SessionDisconnectEvent 발생 */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        remove(event.getSessionId());
+    }
+
+    public void remove(String sessionId) {
+        ChatSession session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        sessionIdsByMember.computeIfPresent(session.getMemberId(), (memberId, sessionIds) -> {
+            sessionIds.remove(sessionId);
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+    }
+
+    /* 세션 정보가 없으면 null (CONNECT 이전 또는 다른 경로의 요청) */
+    public ChatSession get(String sessionId) {
+        return sessionId == null ? null : sessions.get(sessionId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingMemberChanged(MeetingMemberChangedEvent event) {
+        Set<String> sessionIds = sessionIdsByMember.get(event.getMemberId());
+        if (sessionIds == null) {
+            return;
+        }
+        for (String sessionId : sessionIds) {
+            ChatSession session = sessions.get(sessionId);
+            if (session == null) {
+                continue;
+            }
+            if (event.isJoined()) {
+                session.grant(event.getMeetingId(), System.currentTimeMillis());
+            } else {
+                session.revoke(event.getMeetingId());
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        switch (event.getType()) {
+            case DELETED, COMPLETED -> sessions.values()
+                    .forEach(session -> session.revoke(event.getMeetingId()));
+            default -> {
+            }
+        }
+    }
+
+    private Long parseMeetingId(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = CHAT_TOPIC.matcher(destination);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+}
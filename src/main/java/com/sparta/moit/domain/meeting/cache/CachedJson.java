@@ -0,0 +1,15 @@
+package com.sparta.moit.domain.meeting.cache;
+
+import lombok.Getter;
+
+/* 미리 직렬화한 응답 본문과 ETag */
+@Getter
+public class CachedJson {
+    private final byte[] body;
+    private final String etag;
+
+    public CachedJson(byte[] body, String etag) {
+        this.body = body;
+        this.etag = etag;
+    }
+}
@@ -0,0 +1,103 @@
+package com.sparta.moit.domain.meeting.cache;
+
+import com.sparta.moit.domain.meeting.dto.CareerDto;
+import com.sparta.moit.domain.meeting.dto.GetMeetingArrayResponseDto;
+import com.sparta.moit.domain.meeting.dto.SkillDto;
+import com.sparta.moit.domain.meeting.entity.MeetingStatusEnum;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static com.sparta.moit.global.util.CareerMapper.createCareerResponseList;
+import static com.sparta.moit.global.util.SkillMapper.createSkillResponseList;
+
+/*
+ * Redis 에 저장하는 모임 목록 한 페이지 (JSON)
+ * 응답 DTO 는 시간을 HH:mm 으로 직렬화하므로 저장용 형식을 따로 둠, 기술/경력은 id 만 저장
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FeedTilePage {
+    private int page;
+    private int pageSize;
+    private boolean hasNext;
+    private List<Item> items;
+
+    public static FeedTilePage from(Slice<GetMeetingArrayResponseDto> slice) {
+        FeedTilePage feedTilePage = new FeedTilePage();
+        feedTilePage.page = slice.getNumber();
+        feedTilePage.pageSize = slice.getSize();
+        feedTilePage.hasNext = slice.hasNext();
+        feedTilePage.items = slice.getContent().stream().map(Item::from).toList();
+        return feedTilePage;
+    }
+
+    public Slice<GetMeetingArrayResponseDto> toSlice() {
+        List<GetMeetingArrayResponseDto> content = items.stream().map(Item::toDto).toList();
+        return new SliceImpl<>(content, PageRequest.of(page, pageSize), hasNext);
+    }
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Item {
+        private Long meetingId;
+        private String meetingName;
+        private Short registeredCount;
+        private Short totalCount;
+        private LocalDate meetingDate;
+        private Double locationLat;
+        private Double locationLng;
+        private String locationAddress;
+        private LocalDateTime meetingStartTime;
+        private LocalDateTime meetingEndTime;
+        private Long[] skillIds;
+        private Long[] careerIds;
+        private MeetingStatusEnum status;
+
+        static Item from(GetMeetingArrayResponseDto dto) {
+            Item item = new Item();
+            item.meetingId = dto.getMeetingId();
+            item.meetingName = dto.getMeetingName();
+            item.registeredCount = dto.getRegisteredCount();
+            item.totalCount = dto.getTotalCount();
+            item.meetingDate = dto.getMeetingDate();
+            item.locationLat = dto.getLocationLat();
+            item.locationLng = dto.getLocationLng();
+            item.locationAddress = dto.getLocationAddress();
+            item.meetingStartTime = dto.getMeetingStartTime();
+            item.meetingEndTime = dto.getMeetingEndTime();
+            item.skillIds = dto.getSkillList() == null ? null
+                    : dto.getSkillList().stream().map(SkillDto::getSkillId).toArray(Long[]::new);
+            item.careerIds = dto.getCareerList() == null ? null
+                    : dto.getCareerList().stream().map(CareerDto::getCareerId).toArray(Long[]::new);
+            item.status = dto.getStatus();
+            return item;
+        }
+
+        GetMeetingArrayResponseDto toDto() {
+            return GetMeetingArrayResponseDto.builder()
+                    .meetingId(meetingId)
+                    .meetingName(meetingName)
+                    .registeredCount(registeredCount)
+                    .totalCount(totalCount)
+                    .meetingDate(meetingDate)
+                    .locationLat(locationLat)
+                    .locationLng(locationLng)
+                    .locationAddress(locationAddress)
+                    .meetingStartTime(meetingStartTime)
+                    .meetingEndTime(meetingEndTime)
+                    .skillList(skillIds == null ? Collections.emptyList() : createSkillResponseList(skillIds))
+                    .careerList(careerIds == null ? Collections.emptyList() : createCareerResponseList(careerIds))
+                    .status(status)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.sparta.moit.domain.meeting.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.moit.domain.meeting.dto.GetMeetingDetailResponseDto;
+import com.sparta.moit.domain.meeting.event.MeetingChangedEvent;
+import com.sparta.moit.domain.meeting.event.MeetingMemberChangedEvent;
+import com.sparta.moit.domain.meeting.repository.MeetingRepository;
+import com.sparta.moit.domain.meeting.tag.MeetingTagReadMode;
+import com.sparta.moit.global.error.CustomException;
+import com.sparta.moit.global.error.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/*
+ * 비로그인 모임 상세 캐시 (모임 id -> 상세 응답)
+ * 1. 참가/북마크 여부가 없는 비로그인 응답만 짧은 TTL 로 캐싱
+ * 2. 모임 수정/삭제/완료, 참가/탈퇴(참가 인원 변경) 시 해당 모임 항목 제거
+ */
+@Component
+public class MeetingDetailCache {
+    private final MeetingRepository meetingRepository;
+    private final MeetingTagReadMode meetingTagReadMode;
+    private final Cache<Long, GetMeetingDetailResponseDto> cache;
+
+    public MeetingDetailCache(MeetingRepository meetingRepository,
+                              MeetingTagReadMode meetingTagReadMode,
+                              @Value("${meeting.detail-cache.ttl-seconds:5}") long ttlSeconds) {
+        this.meetingRepository = meetingRepository;
+        this.meetingTagReadMode = meetingTagReadMode;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /* 없는 모임은 캐싱하지 않고 예외 */
+    public GetMeetingDetailResponseDto getAnonymous(Long meetingId) {
+        return cache.get(meetingId, id -> meetingRepository.findDetailRow(id, null)
+                .map(row -> GetMeetingDetailResponseDto.fromRow(row, meetingTagReadMode.isMask()))
+                .orElseThrow(() -> new CustomException(ErrorCode.MEETING_NOT_FOUND)));
+    }
+
+    public void evict(Long meetingId) {
+        cache.invalidate(meetingId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        evict(event.getMeetingId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingMemberChanged(MeetingMemberChangedEvent event) {
+        evict(event.getMeetingId());
+    }
+}
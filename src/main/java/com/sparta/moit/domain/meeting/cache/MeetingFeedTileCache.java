@@ -0,0 +1,338 @@
+package com.sparta.moit.domain.meeting.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.moit.domain.meeting.dto.GetMeetingArrayResponseDto;
+import com.sparta.moit.domain.meeting.entity.Meeting;
+import com.sparta.moit.domain.meeting.event.MeetingChangedEvent;
+import com.sparta.moit.domain.meeting.event.MeetingMemberChangedEvent;
+import com.sparta.moit.domain.meeting.index.MeetingGeoIndex;
+import com.sparta.moit.domain.meeting.repository.MeetingRepository;
+import com.sparta.moit.global.util.GeoHash;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/*
+ * 비로그인 모임 목록(GET /api/meetings) 타일 캐시
+ * 1. 요청 좌표를 geohash 타일로 스냅하고, 타일 중심 좌표로 조회한 결과를 (타일, 기술, 경력, 페이지) 키로 캐싱
+ * 2. 로컬 Caffeine -> Redis(JSON) -> DB 순으로 조회, Redis 에는 타일별 키 목록(SET)을 함께 저장
+ * 3. 모임 등록/수정/삭제/완료, 참가/탈퇴 시 그 모임이 검색 반경에 들어가는 타일만 제거하고, 다른 서버에는 pub/sub 으로 전파
+ * 4. 로컬 항목은 TTL 이 짧아 전파가 누락되어도 잠시 뒤 만료됨
+ * 5. 타일별 세대 번호를 조회 전에 읽어 두고, 조회 중 그 타일이 제거되었으면 조회 결과를 캐시에 저장하지 않음
+ */
+@Slf4j(topic = "MeetingFeedTileCache")
+@Component
+public class MeetingFeedTileCache implements MessageListener {
+    public static final String KEY_PREFIX = "meeting:feed:";
+    public static final String TILE_INDEX_PREFIX = "meeting:feed:tile:";
+    public static final String INVALIDATE_CHANNEL = "meeting:feed:invalidate";
+    private static final double NEARBY_RADIUS_METER = 5000;
+    private static final String NO_FILTER = "-";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeetingGeoIndex meetingGeoIndex;
+    private final MeetingRepository meetingRepository;
+    private final Cache<String, Slice<GetMeetingArrayResponseDto>> localCache;
+    /* 로컬 항목의 타일별 키 목록 (타일 제거 시 전체 탐색 없이 제거) */
+    private final Map<String, Set<String>> localKeysByTile = new ConcurrentHashMap<>();
+    /* 타일별 세대 번호 : 제거될 때마다 전체 카운터의 새 값으로 갱신 (항목이 만료되어도 이전 값과 겹치지 않음) */
+    private final Cache<String, Long> tileGenerations;
+    private final AtomicLong generationSequence = new AtomicLong();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final boolean enabled;
+    private final int precision;
+    private final Duration ttl;
+    private final int maxCachedPage;
+
+    public MeetingFeedTileCache(RedisTemplate<String, Object> redisTemplate,
+                                ObjectMapper objectMapper,
+                                MeetingGeoIndex meetingGeoIndex,
+                                MeetingRepository meetingRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${meeting.feed-cache.enabled:false}") boolean enabled,
+                                @Value("${meeting.feed-cache.geohash-precision:6}") int precision,
+                                @Value("${meeting.feed-cache.ttl-seconds:60}") long ttlSeconds,
+                                @Value("${meeting.feed-cache.local-ttl-seconds:5}") long localTtlSeconds,
+                                @Value("${meeting.feed-cache.local-max-size:10000}") long localMaxSize,
+                                @Value("${meeting.feed-cache.max-cached-page:3}") int maxCachedPage) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meetingGeoIndex = meetingGeoIndex;
+        this.meetingRepository = meetingRepository;
+        this.enabled = enabled;
+        this.precision = precision;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.maxCachedPage = maxCachedPage;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .<String, Slice<GetMeetingArrayResponseDto>>evictionListener((key, value, cause) -> unindexLocal(key))
+                .build();
+        this.tileGenerations = Caffeine.newBuilder()
+                .expireAfterWrite(this.ttl)
+                .build();
+        this.hitCounter = meterRegistry.counter("meeting.feed.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("meeting.feed.cache", "result", "miss");
+    }
+
+    /*
+     * 캐시 대상이면 타일 중심 좌표로 loader 를 호출하고, 아니면 요청 좌표 그대로 호출
+     * 필터 값이 숫자가 아니면 캐싱하지 않고 loader 의 검증에 맡김
+     */
+    public Slice<GetMeetingArrayResponseDto> get(int page, Double locationLat, Double locationLng,
+                                                 String skillIdsStr, String careerIdsStr,
+                                                 BiFunction<Double, Double, Slice<GetMeetingArrayResponseDto>> loader) {
+        String skillKey = normalizeIds(skillIdsStr);
+        String careerKey = normalizeIds(careerIdsStr);
+        int normalizedPage = Math.max(page, 1);
+        if (!enabled || locationLat == null || locationLng == null
+                || skillKey == null || careerKey == null || normalizedPage > maxCachedPage) {
+            return loader.apply(locationLat, locationLng);
+        }
+
+        String tile = GeoHash.encode(locationLat, locationLng, precision);
+        String key = KEY_PREFIX + tile + ":" + skillKey + ":" + careerKey + ":" + normalizedPage;
+
+        Slice<GetMeetingArrayResponseDto> cached = localCache.getIfPresent(key);
+        if (cached == null) {
+            long generation = generationOf(tile);
+            cached = readRedis(key);
+            if (cached != null && generationOf(tile) == generation) {
+                putLocal(tile, key, cached);
+            }
+        }
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        long generation = generationOf(tile);
+        double[] center = GeoHash.center(tile);
+        Slice<GetMeetingArrayResponseDto> loaded = loader.apply(center[0], center[1]);
+        if (generationOf(tile) != generation) {
+            return loaded;
+        }
+        putLocal(tile, key, loaded);
+        writeRedis(tile, key, loaded);
+        /* 저장하는 사이에 제거된 경우 방금 저장한 항목을 되돌림 */
+        if (generationOf(tile) != generation) {
+            localCache.invalidate(key);
+            deleteRedis(key);
+        }
+        return loaded;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE) /* 위치 인덱스가 갱신되기 전에 수정 전 좌표를 읽어야 함 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Set<String> tiles = new LinkedHashSet<>();
+        switch (event.getType()) {
+            case CREATED, DELETED -> addTiles(tiles, event.getMeeting());
+            case UPDATED -> {
+                addIndexedTiles(tiles, event.getMeetingId());
+                addTiles(tiles, event.getMeeting());
+            }
+            case COMPLETED -> addTilesOf(tiles, event.getMeetingId());
+        }
+        invalidate(tiles);
+    }
+
+    /* 참가 인원, 모집 상태(OPEN <-> FULL)가 목록 응답에 포함되므로 참가/탈퇴마다 제거 */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingMemberChanged(MeetingMemberChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Set<String> tiles = new LinkedHashSet<>();
+        addTilesOf(tiles, event.getMeetingId());
+        invalidate(tiles);
+    }
+
+    /* 다른 서버에서 전파된 타일 제거 */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        evictLocal(Arrays.stream(body.split(",")).filter(tile -> !tile.isBlank()).collect(Collectors.toSet()));
+    }
+
+    private void invalidate(Set<String> tiles) {
+        if (tiles.isEmpty()) {
+            return;
+        }
+        evictLocal(tiles);
+        try {
+            List<String> tileList = List.copyOf(tiles);
+            List<Object> members = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String tile : tileList) {
+                    connection.setCommands().sMembers(bytes(TILE_INDEX_PREFIX + tile));
+                }
+                return null;
+            });
+
+            Set<String> keys = new HashSet<>();
+            for (int i = 0; i < tileList.size(); i++) {
+                keys.add(TILE_INDEX_PREFIX + tileList.get(i));
+                if (members.get(i) instanceof Collection<?> entryKeys) {
+                    entryKeys.forEach(entryKey -> keys.add(String.valueOf(entryKey)));
+                }
+            }
+            redisTemplate.delete(keys);
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.join(",", tiles));
+        } catch (Exception e) {
+            log.error("모임 목록 캐시 제거 실패 : " + tiles.size() + "개 타일", e);
+        }
+    }
+
+    /* 세대 번호를 먼저 올려 진행 중인 조회가 이전 결과를 저장하지 않도록 한 뒤 로컬 항목 제거 */
+    private void evictLocal(Set<String> tiles) {
+        for (String tile : tiles) {
+            tileGenerations.put(tile, generationSequence.incrementAndGet());
+            Set<String> keys = localKeysByTile.remove(tile);
+            if (keys != null) {
+                localCache.invalidateAll(keys);
+            }
+        }
+    }
+
+    private void putLocal(String tile, String key, Slice<GetMeetingArrayResponseDto> slice) {
+        localKeysByTile.computeIfAbsent(tile, t -> ConcurrentHashMap.newKeySet()).add(key);
+        localCache.put(key, slice);
+    }
+
+    /* 만료/용량 초과로 제거된 로컬 항목을 키 목록에서 제거 */
+    private void unindexLocal(String key) {
+        localKeysByTile.computeIfPresent(tileOf(key), (tile, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private long generationOf(String tile) {
+        Long generation = tileGenerations.getIfPresent(tile);
+        return generation == null ? 0L : generation;
+    }
+
+    private Slice<GetMeetingArrayResponseDto> readRedis(String key) {
+        try {
+            Object json = redisTemplate.opsForValue().get(key);
+            if (json == null) {
+                return null;
+            }
+            return objectMapper.readValue(json.toString(), FeedTilePage.class).toSlice();
+        } catch (Exception e) {
+            log.warn("모임 목록 캐시 조회 실패 : " + key, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(String tile, String key, Slice<GetMeetingArrayResponseDto> slice) {
+        try {
+            String json = objectMapper.writeValueAsString(FeedTilePage.from(slice));
+            String indexKey = TILE_INDEX_PREFIX + tile;
+            redisTemplate.opsForValue().set(key, json, ttl);
+            redisTemplate.opsForSet().add(indexKey, key);
+            redisTemplate.expire(indexKey, ttl);
+        } catch (JsonProcessingException e) {
+            log.error("모임 목록 캐시 직렬화 실패 : " + key, e);
+        } catch (Exception e) {
+            log.warn("모임 목록 캐시 저장 실패 : " + key, e);
+        }
+    }
+
+    private void deleteRedis(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (Exception e) {
+            log.warn("모임 목록 캐시 제거 실패 : " + key, e);
+        }
+    }
+
+    /* 인덱스에 없으면 (일괄 완료 등) DB 에서 좌표 조회 */
+    private void addTilesOf(Set<String> tiles, Long meetingId) {
+        meetingGeoIndex.findEntry(meetingId).ifPresentOrElse(
+                entry -> addTiles(tiles, entry.getLocationLat(), entry.getLocationLng()),
+                () -> meetingRepository.findById(meetingId).ifPresent(meeting -> addTiles(tiles, meeting)));
+    }
+
+    private void addIndexedTiles(Set<String> tiles, Long meetingId) {
+        meetingGeoIndex.findEntry(meetingId)
+                .ifPresent(entry -> addTiles(tiles, entry.getLocationLat(), entry.getLocationLng()));
+    }
+
+    private void addTiles(Set<String> tiles, Meeting meeting) {
+        if (meeting != null) {
+            addTiles(tiles, meeting.getLocationLat(), meeting.getLocationLng());
+        }
+    }
+
+    /* 타일 중심 좌표로 조회하므로, 모임이 반경 안에 들어가는 타일 = 중심이 모임 반경 안에 있는 타일 */
+    private void addTiles(Set<String> tiles, Double locationLat, Double locationLng) {
+        if (locationLat != null && locationLng != null) {
+            tiles.addAll(GeoHash.tilesWithin(locationLat, locationLng, NEARBY_RADIUS_METER, precision));
+        }
+    }
+
+    /* 정렬한 id 목록 (없으면 "-"), 숫자가 아니면 null */
+    private String normalizeIds(String idsStr) {
+        if (idsStr == null || idsStr.isBlank()) {
+            return NO_FILTER;
+        }
+        try {
+            return Arrays.stream(idsStr.split(","))
+                    .map(String::trim)
+                    .filter(id -> !id.isEmpty())
+                    .map(Long::valueOf)
+                    .distinct()
+                    .sorted()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /* meeting:feed:{tile}:{skills}:{careers}:{page} */
+    private String tileOf(String key) {
+        int end = key.indexOf(':', KEY_PREFIX.length());
+        return end < 0 ? "" : key.substring(KEY_PREFIX.length(), end);
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
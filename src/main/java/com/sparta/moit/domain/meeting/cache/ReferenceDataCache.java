@@ -0,0 +1,122 @@
+package com.sparta.moit.domain.meeting.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.moit.domain.meeting.dto.CareerResponseDto;
+import com.sparta.moit.domain.meeting.dto.RegionFirstResponseDto;
+import com.sparta.moit.domain.meeting.repository.CareerRepository;
+import com.sparta.moit.domain.meeting.service.RegionService;
+import com.sparta.moit.domain.meeting.service.SkillService;
+import com.sparta.moit.global.common.dto.ResponseDto;
+import com.sparta.moit.global.error.CustomException;
+import com.sparta.moit.global.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 기술스택, 경력, 시-도/시군구 기준 데이터 캐시
+ * 1. 서버 기동 시 한 번 조회하여 ResponseDto 형태로 미리 직렬화 (요청마다 DB 조회, Jackson 직렬화 없음)
+ * 2. 본문 SHA-256 으로 강한 ETag 를 만들고, If-None-Match 가 일치하면 304 응답
+ * 3. 데이터 변경 시 관리자 API 로 재적재 (요청을 받은 서버만 갱신)
+ */
+@Slf4j(topic = "ReferenceDataCache")
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCache {
+    public static final String SKILL = "skill";
+    public static final String CAREER = "career";
+    public static final String REGION = "region";
+    public static final String REGION_FIRST = "region-first";
+    private static final String REGION_SECOND_PREFIX = "region-second:";
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic();
+
+    private final SkillService skillService;
+    private final RegionService regionService;
+    private final CareerRepository careerRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Map<String, CachedJson> entries = Map.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    /* 전체 재적재 후 한 번에 교체 (적재 중에는 이전 데이터로 응답) */
+    public synchronized int reload() {
+        Map<String, CachedJson> newEntries = new HashMap<>();
+        newEntries.put(SKILL, serialize("기술스택 리스트 조회", skillService.getSkillList()));
+        newEntries.put(CAREER, serialize("경력 리스트 조회", careerRepository.findAll().stream().map(CareerResponseDto::fromEntity).toList()));
+        newEntries.put(REGION, serialize("시-도 정보 통합 조회 성공", regionService.getRegion()));
+
+        List<RegionFirstResponseDto> regionFirstList = regionService.getRegionFirst();
+        newEntries.put(REGION_FIRST, serialize("시-도 정보 조회", regionFirstList));
+        for (RegionFirstResponseDto regionFirst : regionFirstList) {
+            Short regionFirstId = regionFirst.getRegionFirstId().shortValue();
+            newEntries.put(REGION_SECOND_PREFIX + regionFirstId, serialize("시-도 정보 조회", regionService.getRegionSecond(regionFirstId)));
+        }
+
+        this.entries = Map.copyOf(newEntries);
+        log.info("기준 데이터 적재 완료 : " + newEntries.size() + "건");
+        return newEntries.size();
+    }
+
+    public ResponseEntity<byte[]> respond(String key, WebRequest webRequest) {
+        CachedJson cachedJson = entries.get(key);
+        if (cachedJson == null) {
+            throw new CustomException(ErrorCode.VALIDATION_ERROR);
+        }
+
+        if (webRequest.checkNotModified(cachedJson.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(cachedJson.getEtag())
+                    .cacheControl(CACHE_CONTROL)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(cachedJson.getEtag())
+                .cacheControl(CACHE_CONTROL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(cachedJson.getBody());
+    }
+
+    public static String regionSecondKey(Short regionFirstId) {
+        return REGION_SECOND_PREFIX + regionFirstId;
+    }
+
+    private CachedJson serialize(String message, Object data) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(ResponseDto.success(message, data));
+            return new CachedJson(body, etagOf(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("기준 데이터 직렬화 실패", e);
+        }
+    }
+
+    private String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
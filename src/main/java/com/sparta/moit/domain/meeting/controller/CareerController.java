@@ -0,0 +1,23 @@
+package com.sparta.moit.domain.meeting.controller;
+
+import com.sparta.moit.domain.meeting.cache.ReferenceDataCache;
+import com.sparta.moit.domain.meeting.controller.docs.CareerControllerDocs;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/career")
+public class CareerController implements CareerControllerDocs {
+    private final ReferenceDataCache referenceDataCache;
+
+    /* 기동 시 캐싱한 응답 반환 (ETag 일치 시 304) */
+    @GetMapping
+    public ResponseEntity<byte[]> getCareerList(WebRequest webRequest){
+        return referenceDataCache.respond(ReferenceDataCache.CAREER, webRequest);
+    }
+}
@@ -4,8 +4,11 @@ import com.sparta.moit.domain.meeting.controller.docs.MeetingControllerDocs;
 import com.sparta.moit.domain.meeting.dto.*;
 import com.sparta.moit.domain.meeting.service.MeetingService;
 import com.sparta.moit.domain.member.entity.Member;
+import com.sparta.moit.global.aspect.QueryBudget;
+import com.sparta.moit.global.aspect.QueryVariant;
 import com.sparta.moit.global.common.dto.ResponseDto;
 import com.sparta.moit.global.security.UserDetailsImpl;
+import com.sparta.moit.global.util.pagination.CursorSliceResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Slice;
@@ -59,6 +62,7 @@ public class MeetingController implements MeetingControllerDocs {
     }
 
     @GetMapping("/json")
+    @QueryVariant("json")
     public ResponseEntity<ResponseDto<Slice<GetMeetingResponseDto>>> getMeetingListPostgreJson(
             @RequestParam Double locationLat,
             @RequestParam Double locationLng,
@@ -81,6 +85,7 @@ public class MeetingController implements MeetingControllerDocs {
     }
 
     @GetMapping
+    @QueryVariant("array")
     public ResponseEntity<ResponseDto<Slice<GetMeetingArrayResponseDto>>> getMeetingListPostgreArray(
             @RequestParam Double locationLat,
             @RequestParam Double locationLng,
@@ -104,9 +109,74 @@ public class MeetingController implements MeetingControllerDocs {
     }
 
 
+    /* 모임 조회 (커서, jsonb) */
+    @GetMapping("/json/cursor")
+    @QueryVariant("json")
+    @QueryBudget(2)
+    public ResponseEntity<ResponseDto<CursorSliceResponseDto<GetMeetingResponseDto>>> getMeetingCursorPostgreJson(
+            @RequestParam Double locationLat,
+            @RequestParam Double locationLng,
+            @RequestParam(required = false) List<String> skillId,
+            @RequestParam(required = false) List<String> careerId,
+            @RequestParam(required = false) String cursor)
+    {
+
+        String skillIdsStr = (skillId == null || skillId.isEmpty()) ? null : String.join(",", skillId);
+        String careerIdsStr = (careerId == null || careerId.isEmpty()) ? null : String.join(",", careerId);
+
+        CursorSliceResponseDto<GetMeetingResponseDto> responseDto = meetingService.getMeetingCursorPostgreJson(
+                cursor
+                , locationLat
+                , locationLng
+                , skillIdsStr
+                , careerIdsStr
+        );
+
+        return ResponseEntity.ok().body(ResponseDto.success("조회 완료", responseDto));
+    }
+
+    /* 모임 조회 (커서, bigint[]) */
+    @GetMapping("/cursor")
+    @QueryVariant("array")
+    @QueryBudget(2)
+    public ResponseEntity<ResponseDto<CursorSliceResponseDto<GetMeetingArrayResponseDto>>> getMeetingCursorPostgreArray(
+            @RequestParam Double locationLat,
+            @RequestParam Double locationLng,
+            @RequestParam(required = false) List<String> skillId,
+            @RequestParam(required = false) List<String> careerId,
+            @RequestParam(required = false) String cursor)
+    {
+
+        String skillIdsStr = (skillId == null || skillId.isEmpty()) ? null : String.join(",", skillId);
+        String careerIdsStr = (careerId == null || careerId.isEmpty()) ? null : String.join(",", careerId);
+
+        CursorSliceResponseDto<GetMeetingArrayResponseDto> responseDto = meetingService.getMeetingCursorPostgreArray(
+                cursor
+                , locationLat
+                , locationLng
+                , skillIdsStr
+                , careerIdsStr
+        );
+
+        return ResponseEntity.ok().body(ResponseDto.success("조회 완료", responseDto));
+    }
+
+    /* 모임 조회 (커서, QueryDSL) */
+    @GetMapping("/mysql/cursor")
+    @QueryVariant("mysql")
+    public ResponseEntity<ResponseDto<CursorSliceResponseDto<GetMeetingResponseDto>>> getMeetingCursorList
+    (@RequestParam Double locationLat,
+     @RequestParam Double locationLng,
+     @RequestParam(required = false) List<Long> skillId,
+     @RequestParam(required = false) List<Long> careerId,
+     @RequestParam(required = false) String cursor) {
+        CursorSliceResponseDto<GetMeetingResponseDto> responseDto = meetingService.getMeetingCursorList(cursor, locationLat, locationLng, skillId, careerId);
+        return ResponseEntity.ok().body(ResponseDto.success("조회 완료", responseDto));
+    }
 
     /*모임 조회*/
     @GetMapping("/mysql")
+    @QueryVariant("mysql")
     public ResponseEntity<ResponseDto<Slice<GetMeetingResponseDto>>> getMeetingList
     (@RequestParam Double locationLat,
      @RequestParam Double locationLng,
@@ -119,6 +189,7 @@ public class MeetingController implements MeetingControllerDocs {
 
     /* 모임 조회 NativeQuery */
     @GetMapping("/native")
+    @QueryVariant("native")
     public ResponseEntity<ResponseDto<List<GetMeetingResponseDto>>> getMeetingListNativeQuery(@RequestParam Double locationLat,
                                                                                               @RequestParam Double locationLng,
                                                                                               @RequestParam(required = false) List<Long> skillId,
@@ -130,6 +201,7 @@ public class MeetingController implements MeetingControllerDocs {
 
     /*모임 상세 조회*/
     @GetMapping("/{meetingId}")
+    @QueryBudget(2)
     public ResponseEntity<ResponseDto<GetMeetingDetailResponseDto>> getMeetingDetail(@PathVariable Long meetingId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
         Optional<Member> member = Optional.ofNullable(userDetails).map(UserDetailsImpl::getUser);
@@ -147,8 +219,19 @@ public class MeetingController implements MeetingControllerDocs {
         return ResponseEntity.ok().body(ResponseDto.success("검색 완료", responseDtoList));
     }
 
+    /* 모임 검색 (커서) */
+    @GetMapping("/search/cursor")
+    @QueryBudget(2)
+    public ResponseEntity<ResponseDto<CursorSliceResponseDto<GetMeetingArrayResponseDto>>> getMeetingListBySearchCursor(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor) {
+        CursorSliceResponseDto<GetMeetingArrayResponseDto> responseDto = meetingService.getMeetingListBySearchCursor(keyword, cursor);
+        return ResponseEntity.ok().body(ResponseDto.success("검색 완료", responseDto));
+    }
+
     /* 인기 모임 top 5 */
     @GetMapping("/popular")
+    @QueryBudget(2)
     public ResponseEntity<?> getPopularMeeting() {
         List<GetPopularResponseDto> responseDtoList = meetingService.getPopularMeeting();
         return ResponseEntity.ok().body(ResponseDto.success("인기 모임 top 5", responseDtoList));
@@ -167,4 +250,25 @@ public class MeetingController implements MeetingControllerDocs {
         meetingService.leaveMeeting(userDetails.getUser(), meetingId);
         return ResponseEntity.ok().body(ResponseDto.success("모임 탈퇴 완료", "탈퇴"));
     }
+
+    /*여러 모임 일괄 참가*/
+    @PostMapping("/my-meetings")
+    public ResponseEntity<ResponseDto<List<MembershipResultDto>>> enterMeetings(@RequestBody MyMeetingBatchRequestDto requestDto, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        List<MembershipResultDto> responseDtoList = meetingService.enterMeetings(userDetails.getUser(), requestDto.getMeetingIds());
+        return ResponseEntity.ok().body(ResponseDto.success("모임 일괄 참가 완료", responseDtoList));
+    }
+
+    /*모임 회원 일괄 추가*/
+    @PostMapping("/{meetingId}/members")
+    public ResponseEntity<ResponseDto<List<MembershipResultDto>>> addMeetingMembers(@PathVariable Long meetingId, @RequestBody MeetingMemberBatchRequestDto requestDto, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        List<MembershipResultDto> responseDtoList = meetingService.addMeetingMembers(userDetails.getUser(), meetingId, requestDto.getMemberIds());
+        return ResponseEntity.ok().body(ResponseDto.success("모임 회원 일괄 추가 완료", responseDtoList));
+    }
+
+    /*모임 회원 일괄 제외*/
+    @DeleteMapping("/{meetingId}/members")
+    public ResponseEntity<ResponseDto<List<MembershipResultDto>>> removeMeetingMembers(@PathVariable Long meetingId, @RequestBody MeetingMemberBatchRequestDto requestDto, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        List<MembershipResultDto> responseDtoList = meetingService.removeMeetingMembers(userDetails.getUser(), meetingId, requestDto.getMemberIds());
+        return ResponseEntity.ok().body(ResponseDto.success("모임 회원 일괄 제외 완료", responseDtoList));
+    }
 }
@@ -0,0 +1,45 @@
+package com.sparta.moit.domain.meeting.controller;
+
+import com.sparta.moit.domain.meeting.dto.TagMigrationStatusResponseDto;
+import com.sparta.moit.domain.meeting.tag.MeetingTagMigrationJob;
+import com.sparta.moit.domain.member.entity.UserRoleEnum;
+import com.sparta.moit.global.common.dto.ResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/meeting-tags/migration")
+public class MeetingTagAdminController {
+    private final MeetingTagMigrationJob meetingTagMigrationJob;
+
+    /* 기술/경력 비트마스크 마이그레이션 시작 (체크포인트 이후부터, restart=true 면 처음부터) */
+    @Secured(UserRoleEnum.Authority.ADMIN)
+    @PostMapping("/start")
+    public ResponseEntity<ResponseDto<TagMigrationStatusResponseDto>> start(
+            @RequestParam(defaultValue = "false") boolean clearLegacy,
+            @RequestParam(defaultValue = "false") boolean restart) {
+        TagMigrationStatusResponseDto status = meetingTagMigrationJob.start(clearLegacy, restart);
+        return ResponseEntity.ok().body(ResponseDto.success("기술/경력 마이그레이션 시작", status));
+    }
+
+    @Secured(UserRoleEnum.Authority.ADMIN)
+    @PostMapping("/stop")
+    public ResponseEntity<ResponseDto<TagMigrationStatusResponseDto>> stop() {
+        TagMigrationStatusResponseDto status = meetingTagMigrationJob.stop();
+        return ResponseEntity.ok().body(ResponseDto.success("기술/경력 마이그레이션 중단 요청", status));
+    }
+
+    @Secured(UserRoleEnum.Authority.ADMIN)
+    @GetMapping
+    public ResponseEntity<ResponseDto<TagMigrationStatusResponseDto>> status() {
+        TagMigrationStatusResponseDto status = meetingTagMigrationJob.status();
+        return ResponseEntity.ok().body(ResponseDto.success("기술/경력 마이그레이션 상태 조회", status));
+    }
+}
@@ -0,0 +1,26 @@
+package com.sparta.moit.domain.meeting.controller;
+
+import com.sparta.moit.domain.meeting.cache.ReferenceDataCache;
+import com.sparta.moit.domain.member.entity.UserRoleEnum;
+import com.sparta.moit.global.common.dto.ResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/reference-data")
+public class ReferenceDataAdminController {
+    private final ReferenceDataCache referenceDataCache;
+
+    /* 기술스택, 경력, 시-도/시군구 데이터 변경 후 캐시 재적재 */
+    @Secured(UserRoleEnum.Authority.ADMIN)
+    @PostMapping("/reload")
+    public ResponseEntity<ResponseDto<Integer>> reload() {
+        int count = referenceDataCache.reload();
+        return ResponseEntity.ok().body(ResponseDto.success("기준 데이터 재적재 완료", count));
+    }
+}
@@ -1,41 +1,34 @@
 package com.sparta.moit.domain.meeting.controller;
 
+import com.sparta.moit.domain.meeting.cache.ReferenceDataCache;
 import com.sparta.moit.domain.meeting.controller.docs.RegionControllerDocs;
-import com.sparta.moit.domain.meeting.dto.RegionFirstResponseDto;
-import com.sparta.moit.domain.meeting.dto.RegionIntegratedResponseDto;
-import com.sparta.moit.domain.meeting.dto.RegionSecondResponseDto;
-import com.sparta.moit.domain.meeting.service.RegionService;
-import com.sparta.moit.global.common.dto.ResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/region")
 public class RegionController implements RegionControllerDocs {
-    private final RegionService regionService;
+    private final ReferenceDataCache referenceDataCache;
 
+    /* 기동 시 캐싱한 응답 반환 (ETag 일치 시 304) */
     @GetMapping()
-    public ResponseEntity getRegion() {
-        List<RegionIntegratedResponseDto> responseDto = regionService.getRegion();
-        return ResponseEntity.ok().body(ResponseDto.success("시-도 정보 통합 조회 성공", responseDto));
+    public ResponseEntity<byte[]> getRegion(WebRequest webRequest) {
+        return referenceDataCache.respond(ReferenceDataCache.REGION, webRequest);
     }
 
     @GetMapping("/first")
-    public ResponseEntity<?> getRegionFirst(){
-        List<RegionFirstResponseDto> responseDto = regionService.getRegionFirst();
-        return ResponseEntity.ok().body(ResponseDto.success("시-도 정보 조회", responseDto));
+    public ResponseEntity<byte[]> getRegionFirst(WebRequest webRequest){
+        return referenceDataCache.respond(ReferenceDataCache.REGION_FIRST, webRequest);
     }
 
     @GetMapping("/second")
-    public ResponseEntity<?> getRegionFirst(@RequestParam Short regionFirstId){
-        List<RegionSecondResponseDto> responseDto = regionService.getRegionSecond(regionFirstId);
-        return ResponseEntity.ok().body(ResponseDto.success("시-도 정보 조회", responseDto));
+    public ResponseEntity<byte[]> getRegionFirst(@RequestParam Short regionFirstId, WebRequest webRequest){
+        return referenceDataCache.respond(ReferenceDataCache.regionSecondKey(regionFirstId), webRequest);
     }
 }
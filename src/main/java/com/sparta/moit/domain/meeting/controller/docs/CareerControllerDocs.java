@@ -0,0 +1,13 @@
+package com.sparta.moit.domain.meeting.controller.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+@Tag(name = "경력 조회", description = "경력 API")
+public interface CareerControllerDocs {
+
+    @Operation(summary = "경력 조회", description = "경력 조회 API")
+    ResponseEntity<?> getCareerList(WebRequest webRequest);
+}
@@ -3,6 +3,8 @@ package com.sparta.moit.domain.meeting.controller.docs;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.sparta.moit.domain.meeting.dto.CreateMeetingRequestDto;
 import com.sparta.moit.domain.meeting.dto.GetMeetingDetailResponseDto;
+import com.sparta.moit.domain.meeting.dto.MeetingMemberBatchRequestDto;
+import com.sparta.moit.domain.meeting.dto.MyMeetingBatchRequestDto;
 import com.sparta.moit.domain.meeting.dto.UpdateMeetingRequestDto;
 import com.sparta.moit.global.common.dto.ResponseDto;
 import com.sparta.moit.global.security.UserDetailsImpl;
@@ -46,6 +48,13 @@ public interface MeetingControllerDocs {
                                      @RequestParam(required = false) List<Long> careerId,
                                      @RequestParam(defaultValue = "1") int page);
 
+    @Operation(summary = "모임 조회 기능 (커서)", description = "모임 조회 API, 응답의 nextCursor 를 다음 요청의 cursor 로 전달")
+    ResponseEntity<?> getMeetingCursorList(@RequestParam Double locationLat,
+                                           @RequestParam Double locationLng,
+                                           @RequestParam(required = false) List<Long> skillId,
+                                           @RequestParam(required = false) List<Long> careerId,
+                                           @RequestParam(required = false) String cursor);
+
     @Operation(summary = "모임 조회 기능 (NativeQuery)", description = "모임 조회 API")
     public ResponseEntity<?> getMeetingListNativeQuery(@RequestParam Double locationLat,
                                                        @RequestParam Double locationLng,
@@ -62,6 +71,9 @@ public interface MeetingControllerDocs {
     @Operation(summary = "모임 검색 기능", description = "모임 검색 API")
     ResponseEntity<?> getMeetingListBySearch(@RequestParam String keyword, @RequestParam(defaultValue = "1") int page);
 
+    @Operation(summary = "모임 검색 기능 (커서)", description = "모임 검색 API, 응답의 nextCursor 를 다음 요청의 cursor 로 전달")
+    ResponseEntity<?> getMeetingListBySearchCursor(@RequestParam String keyword, @RequestParam(required = false) String cursor);
+
     @Operation(summary = "인기 모임", description = "인기 모임 API")
     ResponseEntity<?> getPopularMeeting();
 
@@ -70,5 +82,14 @@ public interface MeetingControllerDocs {
 
     @Operation(summary = "모임 탈퇴 기능", description = "모임 탈퇴 API")
     ResponseEntity<?> leaveMeeting(@PathVariable Long meetingId, @AuthenticationPrincipal UserDetailsImpl userDetails);
+
+    @Operation(summary = "여러 모임 일괄 참가 기능", description = "여러 모임 일괄 참가 API, 모임별 결과 반환")
+    ResponseEntity<?> enterMeetings(@RequestBody MyMeetingBatchRequestDto requestDto, @AuthenticationPrincipal UserDetailsImpl userDetails);
+
+    @Operation(summary = "모임 회원 일괄 추가 기능", description = "모임 작성자의 회원 일괄 추가 API, 회원별 결과 반환")
+    ResponseEntity<?> addMeetingMembers(@PathVariable Long meetingId, @RequestBody MeetingMemberBatchRequestDto requestDto, @AuthenticationPrincipal UserDetailsImpl userDetails);
+
+    @Operation(summary = "모임 회원 일괄 제외 기능", description = "모임 작성자의 회원 일괄 제외 API, 회원별 결과 반환")
+    ResponseEntity<?> removeMeetingMembers(@PathVariable Long meetingId, @RequestBody MeetingMemberBatchRequestDto requestDto, @AuthenticationPrincipal UserDetailsImpl userDetails);
 }
 
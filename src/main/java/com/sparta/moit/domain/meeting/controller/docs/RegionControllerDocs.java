@@ -4,12 +4,13 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "시도군구 조회", description = "시도군구 API")
 public interface RegionControllerDocs {
 
     @Operation(summary = "시-도 조회", description = "시도 리스트 조회 API")
-    ResponseEntity<?> getRegionFirst();
+    ResponseEntity<?> getRegionFirst(WebRequest webRequest);
     @Operation(summary = "시군구 조회", description = "시군구 리스트 조회 API")
-    ResponseEntity<?> getRegionFirst(@RequestParam Short regionFirstId);
+    ResponseEntity<?> getRegionFirst(@RequestParam Short regionFirstId, WebRequest webRequest);
 }
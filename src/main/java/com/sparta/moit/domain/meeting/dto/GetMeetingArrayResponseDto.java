@@ -54,14 +54,16 @@ public class GetMeetingArrayResponseDto {
         this.status = status;
     }
 
-    public static GetMeetingArrayResponseDto fromEntity(Meeting meeting) {
+    public static GetMeetingArrayResponseDto fromEntity(Meeting meeting, boolean maskRead) {
         List<SkillDto> skillList = Collections.emptyList();
         List<CareerDto> careerList = Collections.emptyList();
-        if (meeting.getSkillIdList() != null) {
-            skillList = createSkillResponseList(meeting.getSkillIdList());
+        Long[] skillIds = meeting.readSkillIds(maskRead);
+        Long[] careerIds = meeting.readCareerIds(maskRead);
+        if (skillIds != null) {
+            skillList = createSkillResponseList(skillIds);
         }
-        if (meeting.getCareerIdList() != null) {
-            careerList = createCareerResponseList(meeting.getCareerIdList());
+        if (careerIds != null) {
+            careerList = createCareerResponseList(careerIds);
         }
 
         return GetMeetingArrayResponseDto.builder()
@@ -3,6 +3,7 @@ package com.sparta.moit.domain.meeting.dto;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.sparta.moit.domain.meeting.entity.Meeting;
 import com.sparta.moit.domain.meeting.entity.MeetingStatusEnum;
+import com.sparta.moit.domain.meeting.repository.MeetingDetailRow;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -66,10 +67,10 @@ public class GetMeetingDetailResponseDto {
         this.isBookmarked = isBookmarked;
     }
 
-    public static GetMeetingDetailResponseDto fromEntity(Meeting meeting, boolean isJoin, boolean isBookmarked) {
-        List<String> careerNameList = mapCareerIdsToNames(meeting.getCareerIdList());
+    public static GetMeetingDetailResponseDto fromEntity(Meeting meeting, boolean isJoin, boolean isBookmarked, boolean maskRead) {
+        List<String> careerNameList = mapCareerIdsToNames(meeting.readCareerIds(maskRead));
 
-        List<String> skillNameList = mapSkillIdsToNames(meeting.getSkillIdList());
+        List<String> skillNameList = mapSkillIdsToNames(meeting.readSkillIds(maskRead));
 
         return GetMeetingDetailResponseDto.builder()
                 .meetingId(meeting.getId())
@@ -93,4 +94,28 @@ public class GetMeetingDetailResponseDto {
                 .isBookmarked(isBookmarked)
                 .build();
     }
+
+    public static GetMeetingDetailResponseDto fromRow(MeetingDetailRow row, boolean maskRead) {
+        return GetMeetingDetailResponseDto.builder()
+                .meetingId(row.getMeetingId())
+                .meetingName(row.getMeetingName())
+                .creatorName(row.getCreatorName())
+                .creatorEmail(row.getCreatorEmail())
+                .careerNameList(mapCareerIdsToNames(row.readCareerIds(maskRead)))
+                .skillNameList(mapSkillIdsToNames(row.readSkillIds(maskRead)))
+                .meetingDate(row.getMeetingDate())
+                .meetingStartTime(row.getMeetingStartTime())
+                .meetingEndTime(row.getMeetingEndTime())
+                .locationAddress(row.getLocationAddress())
+                .registeredCount(row.getRegisteredCount())
+                .totalCount(row.getTotalCount())
+                .budget(row.getBudget())
+                .contents(row.getContents())
+                .locationLat(row.getLocationLat())
+                .locationLng(row.getLocationLng())
+                .isJoin(row.isJoin())
+                .status(row.getStatus())
+                .isBookmarked(row.isBookmarked())
+                .build();
+    }
 }
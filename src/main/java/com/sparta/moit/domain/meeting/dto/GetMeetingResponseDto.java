@@ -50,7 +50,7 @@ public class GetMeetingResponseDto {
 
 
 
-    public static GetMeetingResponseDto fromEntity(Meeting meeting){
+    public static GetMeetingResponseDto fromEntity(Meeting meeting, boolean maskRead){
         return GetMeetingResponseDto.builder()
                 .meetingId(meeting.getId())
                 .meetingName(meeting.getMeetingName())
@@ -62,8 +62,8 @@ public class GetMeetingResponseDto {
                 .meetingStartTime(meeting.getMeetingStartTime())
                 .meetingEndTime(meeting.getMeetingEndTime())
                 .locationAddress(meeting.getLocationAddress())
-                .skillList(meeting.getSkillList())
-                .careerList(meeting.getCareerList())
+                .skillList(meeting.readSkillList(maskRead))
+                .careerList(meeting.readCareerList(maskRead))
                 .status(meeting.getStatus())
                 .build();
     }
@@ -0,0 +1,18 @@
+package com.sparta.moit.domain.meeting.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class MeetingMemberBatchRequestDto {
+    @Schema(description = "회원 id 목록", example = "[1, 2, 3]")
+    private List<Long> memberIds;
+
+    public MeetingMemberBatchRequestDto(List<Long> memberIds) {
+        this.memberIds = memberIds;
+    }
+}
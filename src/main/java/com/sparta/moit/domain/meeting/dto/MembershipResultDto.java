@@ -0,0 +1,33 @@
+package com.sparta.moit.domain.meeting.dto;
+
+import com.sparta.moit.global.error.ErrorCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/* 일괄 참가/탈퇴 항목별 결과 (성공 시 JOINED / LEFT, 실패 시 ErrorCode key) */
+@Getter
+@NoArgsConstructor
+public class MembershipResultDto {
+    public static final String JOINED = "JOINED";
+    public static final String LEFT = "LEFT";
+
+    private Long meetingId;
+    private Long memberId;
+    private boolean success;
+    private String result;
+
+    private MembershipResultDto(Long meetingId, Long memberId, boolean success, String result) {
+        this.meetingId = meetingId;
+        this.memberId = memberId;
+        this.success = success;
+        this.result = result;
+    }
+
+    public static MembershipResultDto success(Long meetingId, Long memberId, String result) {
+        return new MembershipResultDto(meetingId, memberId, true, result);
+    }
+
+    public static MembershipResultDto fail(Long meetingId, Long memberId, ErrorCode errorCode) {
+        return new MembershipResultDto(meetingId, memberId, false, errorCode.getKey());
+    }
+}
@@ -0,0 +1,18 @@
+package com.sparta.moit.domain.meeting.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class MyMeetingBatchRequestDto {
+    @Schema(description = "모임 id 목록", example = "[1, 2, 3]")
+    private List<Long> meetingIds;
+
+    public MyMeetingBatchRequestDto(List<Long> meetingIds) {
+        this.meetingIds = meetingIds;
+    }
+}
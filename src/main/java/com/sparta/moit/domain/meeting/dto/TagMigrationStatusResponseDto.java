@@ -0,0 +1,41 @@
+package com.sparta.moit.domain.meeting.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/* 기술/경력 마이그레이션 진행 상황 */
+@Getter
+public class TagMigrationStatusResponseDto {
+    private final boolean running;
+    private final boolean completed;
+    private final boolean converged;
+    private final String readMode;
+    private final boolean clearLegacy;
+    private final long lastId;
+    private final long migrated;
+    private final long remaining;
+    private final int rowsPerSecond;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+    private final String lastError;
+
+    @Builder
+    public TagMigrationStatusResponseDto(boolean running, boolean completed, boolean converged, String readMode, boolean clearLegacy,
+                                         long lastId, long migrated, long remaining, int rowsPerSecond,
+                                         LocalDateTime startedAt, LocalDateTime finishedAt, String lastError) {
+        this.running = running;
+        this.completed = completed;
+        this.converged = converged;
+        this.readMode = readMode;
+        this.clearLegacy = clearLegacy;
+        this.lastId = lastId;
+        this.migrated = migrated;
+        this.remaining = remaining;
+        this.rowsPerSecond = rowsPerSecond;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.lastError = lastError;
+    }
+}
@@ -2,11 +2,14 @@ package com.sparta.moit.domain.meeting.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity(name="career")
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "career")
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
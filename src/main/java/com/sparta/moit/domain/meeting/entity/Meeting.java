@@ -7,25 +7,35 @@ import com.sparta.moit.domain.meeting.dto.SkillResponseDto;
 import com.sparta.moit.domain.meeting.dto.UpdateMeetingRequestDto;
 import com.sparta.moit.domain.member.entity.Member;
 import com.sparta.moit.global.common.entity.Timestamped;
+import com.sparta.moit.global.util.KoreanBigramTokenizer;
 import com.sparta.moit.global.util.PointUtil;
+import com.sparta.moit.global.util.TagMask;
 import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Type;
 import org.locationtech.jts.geom.Point;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 import static com.sparta.moit.global.util.CareerMapper.createCareerResponseList;
 import static com.sparta.moit.global.util.SkillMapper.createSkillResponseList;
 
 @Entity(name = "meeting")
+@Table(indexes = {
+        @Index(name = "idx_meeting_status_end_time", columnList = "status, meeting_end_time"), /* 종료 모임 일괄 완료 처리용 */
+        @Index(name = "idx_meeting_location", columnList = "location_lat, location_lng") /* QueryDSL 커서 조회의 위도/경도 범위 조건용 */
+})
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
+@DynamicUpdate /* 변경한 컬럼만 UPDATE (registered_count / status 는 MeetingStatusJdbcRepository 에서 원자적으로 갱신) */
 public class Meeting extends Timestamped {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -53,7 +63,8 @@ public class Meeting extends Timestamped {
     @Column(name = "contents", length = 2000)
     private String contents;
 
-    @Column(name = "registered_count")
+    /* 참가 인원은 MeetingStatusJdbcRepository 의 좌석 확보/반환 쿼리만 갱신 */
+    @Column(name = "registered_count", updatable = false)
     private Short registeredCount;
 
     @Column(name = "total_count")
@@ -100,6 +111,21 @@ public class Meeting extends Timestamped {
     @Column(name = "skill_id_list", columnDefinition = "bigint[]")
     private Long[] skillIdList;
 
+    /* 필터용 비트마스크 (TagMask), 저장 형식과 관계없이 등록/수정 시 함께 갱신 */
+    @Column(name = "skill_mask")
+    private Long skillMask;
+
+    @Column(name = "career_mask")
+    private Long careerMask;
+
+    /* 마스크를 등록/수정 요청 값으로 기록했는지 (false/null : 기동 시 채우기 등 기존 형식에서 계산), 마이그레이션 수렴 시 사용 */
+    @Column(name = "tag_mask_from_request")
+    private Boolean tagMaskFromRequest;
+
+    /* 전문 검색용 토큰 (모임 이름, 주소, 내용), search_vector 생성 컬럼의 원본 */
+    @Column(name = "search_document", columnDefinition = "text")
+    private String searchDocument;
+
 
     @Builder
     public Meeting(Long id, String meetingName, LocalDate meetingDate, LocalDateTime meetingStartTime, LocalDateTime meetingEndTime,
@@ -128,6 +154,8 @@ public class Meeting extends Timestamped {
         this.careerList = careerList;
         this.skillIdList = skillIdList;
         this.careerIdList = careerIdList;
+        refreshSearchDocument();
+        refreshTagMask();
     }
 
     public void updateMeeting(UpdateMeetingRequestDto requestDto) {
@@ -147,6 +175,8 @@ public class Meeting extends Timestamped {
         this.regionSecondName = requestDto.getRegionSecondName();
         this.skillList = skillList;
         this.careerList = careerList;
+        refreshSearchDocument();
+        refreshTagMask(requestDto.getSkillIds(), requestDto.getCareerIds());
     }
     public void updateMeetingArray(UpdateMeetingRequestDto requestDto) {
         Long[] skillArray = requestDto.getSkillIds().toArray(new Long[0]);
@@ -164,20 +194,28 @@ public class Meeting extends Timestamped {
         this.regionSecondName = requestDto.getRegionSecondName();
         this.skillIdList = skillArray;
         this.careerIdList = careerArray;
+        refreshSearchDocument();
+        refreshTagMask(requestDto.getSkillIds(), requestDto.getCareerIds());
+    }
+
+    /* 응답용 기술/경력 : maskRead(read-mode=mask) 이고 마스크가 채워져 있으면 마스크에서, 아니면 bigint[] 에서 */
+    public Long[] readSkillIds(boolean maskRead) {
+        return maskRead && skillMask != null ? TagMask.toIds(skillMask) : skillIdList;
     }
 
-    public Short incrementRegisteredCount() {
-        return registeredCount++;
+    public Long[] readCareerIds(boolean maskRead) {
+        return maskRead && careerMask != null ? TagMask.toIds(careerMask) : careerIdList;
     }
 
-    public void decrementRegisteredCount() {
-        if (registeredCount > 0) {
-            registeredCount--;
-        }
+    /* jsonb 목록으로 응답하는 경우 */
+    public List<SkillResponseDto> readSkillList(boolean maskRead) {
+        return maskRead && skillMask != null
+                ? createSkillResponseList(Arrays.asList(TagMask.toIds(skillMask))) : skillList;
     }
 
-    public void updateStatus() {
-        this.status = MeetingStatusEnum.FULL;
+    public List<CareerResponseDto> readCareerList(boolean maskRead) {
+        return maskRead && careerMask != null
+                ? createCareerResponseList(Arrays.asList(TagMask.toIds(careerMask))) : careerList;
     }
 
     public void addMeetingMember(MeetingMember meetingMember) {
@@ -192,5 +230,24 @@ public class Meeting extends Timestamped {
         this.status = MeetingStatusEnum.COMPLETE;
     }
 
+    private void refreshSearchDocument() {
+        this.searchDocument = KoreanBigramTokenizer.toDocument(meetingName, locationAddress, contents);
+    }
+
+    /* bigint[] 로 저장한 경우 배열, jsonb 로 저장한 경우 목록의 id 로 계산 */
+    private void refreshTagMask() {
+        List<Long> skillIds = skillIdList != null ? Arrays.asList(skillIdList)
+                : skillList == null ? List.of() : skillList.stream().map(SkillResponseDto::getSkillId).toList();
+        List<Long> careerIds = careerIdList != null ? Arrays.asList(careerIdList)
+                : careerList == null ? List.of() : careerList.stream().map(CareerResponseDto::getCareerId).toList();
+        refreshTagMask(skillIds, careerIds);
+    }
+
+    private void refreshTagMask(Collection<Long> skillIds, Collection<Long> careerIds) {
+        this.skillMask = TagMask.of(skillIds);
+        this.careerMask = TagMask.of(careerIds);
+        this.tagMaskFromRequest = true;
+    }
+
 }
 
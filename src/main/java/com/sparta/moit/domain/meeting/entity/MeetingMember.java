@@ -5,10 +5,12 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = MeetingMember.UNIQUE_MEMBER_MEETING, columnNames = {"member_id", "meeting_id"})) /* 중복 참가 방지 */
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class MeetingMember {
+    public static final String UNIQUE_MEMBER_MEETING = "uk_meeting_member_member_meeting";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -2,8 +2,11 @@ package com.sparta.moit.domain.meeting.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity(name = "region_second")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "region_second")
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
@@ -3,12 +3,15 @@ package com.sparta.moit.domain.meeting.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 @Entity(name="skill")
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "skill")
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
@@ -0,0 +1,10 @@
+package com.sparta.moit.domain.meeting.event;
+
+public enum MeetingChangeType {
+
+    CREATED,
+    UPDATED,
+    DELETED,
+    COMPLETED;
+
+}
@@ -0,0 +1,34 @@
+package com.sparta.moit.domain.meeting.event;
+
+import com.sparta.moit.domain.meeting.entity.Meeting;
+import com.sparta.moit.domain.meeting.entity.MeetingStatusEnum;
+import lombok.Getter;
+
+/* 모임 등록/수정/삭제/완료 시 발행되는 이벤트 (커밋 이후 인메모리 인덱스, 캐시 동기화용) */
+@Getter
+public class MeetingChangedEvent {
+    private final Long meetingId;
+    private final MeetingChangeType type;
+    private final Meeting meeting;
+    private final MeetingStatusEnum previousStatus; /* 삭제 이벤트에서만 사용 (삭제 전 상태) */
+
+    private MeetingChangedEvent(Long meetingId, MeetingChangeType type, Meeting meeting, MeetingStatusEnum previousStatus) {
+        this.meetingId = meetingId;
+        this.type = type;
+        this.meeting = meeting;
+        this.previousStatus = previousStatus;
+    }
+
+    public static MeetingChangedEvent of(Meeting meeting, MeetingChangeType type) {
+        return new MeetingChangedEvent(meeting.getId(), type, meeting, null);
+    }
+
+    public static MeetingChangedEvent deleted(Meeting meeting, MeetingStatusEnum previousStatus) {
+        return new MeetingChangedEvent(meeting.getId(), MeetingChangeType.DELETED, meeting, previousStatus);
+    }
+
+    /* 일괄 완료 처리 : 엔티티를 조회하지 않으므로 id 만 전달 */
+    public static MeetingChangedEvent completed(Long meetingId) {
+        return new MeetingChangedEvent(meetingId, MeetingChangeType.COMPLETED, null, null);
+    }
+}
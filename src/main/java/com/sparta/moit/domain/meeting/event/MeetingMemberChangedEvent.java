@@ -0,0 +1,28 @@
+package com.sparta.moit.domain.meeting.event;
+
+import com.sparta.moit.domain.member.entity.Member;
+import lombok.Getter;
+
+/* 모임 참가/탈퇴 시 발행되는 이벤트 (커밋 이후 채팅 권한 캐시 동기화용) */
+@Getter
+public class MeetingMemberChangedEvent {
+    private final Long memberId;
+    private final String email;
+    private final Long meetingId;
+    private final boolean joined;
+
+    private MeetingMemberChangedEvent(Long memberId, String email, Long meetingId, boolean joined) {
+        this.memberId = memberId;
+        this.email = email;
+        this.meetingId = meetingId;
+        this.joined = joined;
+    }
+
+    public static MeetingMemberChangedEvent joined(Member member, Long meetingId) {
+        return new MeetingMemberChangedEvent(member.getId(), member.getEmail(), meetingId, true);
+    }
+
+    public static MeetingMemberChangedEvent left(Member member, Long meetingId) {
+        return new MeetingMemberChangedEvent(member.getId(), member.getEmail(), meetingId, false);
+    }
+}
@@ -0,0 +1,42 @@
+package com.sparta.moit.domain.meeting.index;
+
+import com.sparta.moit.domain.meeting.entity.Meeting;
+import com.sparta.moit.global.util.TagMask;
+import lombok.Getter;
+
+/* 인메모리 위치 인덱스에 저장되는 모임 정보 (id, 좌표, 필터용 기술/경력 비트마스크) */
+@Getter
+public class MeetingGeoEntry {
+    private final Long meetingId;
+    private final double locationLat;
+    private final double locationLng;
+    private final long skillMask;
+    private final long careerMask;
+
+    public MeetingGeoEntry(Long meetingId, Double locationLat, Double locationLng, Long skillMask, Long careerMask) {
+        this.meetingId = meetingId;
+        this.locationLat = locationLat;
+        this.locationLng = locationLng;
+        this.skillMask = skillMask == null ? 0L : skillMask;
+        this.careerMask = careerMask == null ? 0L : careerMask;
+    }
+
+    public static MeetingGeoEntry fromEntity(Meeting meeting) {
+        return new MeetingGeoEntry(
+                meeting.getId(),
+                meeting.getLocationLat(),
+                meeting.getLocationLng(),
+                meeting.getSkillMask(),
+                meeting.getCareerMask()
+        );
+    }
+
+    /* bigint[] && bigint[] 연산과 동일 : 하나라도 겹치면 true (filter 가 null 이면 조건 없음) */
+    public boolean hasAnySkill(Long skillMask) {
+        return TagMask.matchesAny(this.skillMask, skillMask);
+    }
+
+    public boolean hasAnyCareer(Long careerMask) {
+        return TagMask.matchesAny(this.careerMask, careerMask);
+    }
+}
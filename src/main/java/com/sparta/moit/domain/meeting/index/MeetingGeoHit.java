@@ -0,0 +1,15 @@
+package com.sparta.moit.domain.meeting.index;
+
+import lombok.Getter;
+
+/* 위치 인덱스 조회 결과 (모임 id, 기준 좌표로부터의 거리(m)) */
+@Getter
+public class MeetingGeoHit {
+    private final Long meetingId;
+    private final double distance;
+
+    public MeetingGeoHit(Long meetingId, double distance) {
+        this.meetingId = meetingId;
+        this.distance = distance;
+    }
+}
@@ -0,0 +1,199 @@
+package com.sparta.moit.domain.meeting.index;
+
+import com.sparta.moit.domain.meeting.entity.MeetingStatusEnum;
+import com.sparta.moit.domain.meeting.event.MeetingChangedEvent;
+import com.sparta.moit.domain.meeting.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * OPEN / FULL 상태 모임의 인메모리 위치 인덱스
+ * 1. 위도-경도를 CELL_SIZE_DEGREE 크기의 격자(cell)로 나누어 모임 id 를 보관
+ * 2. 반경 조회 시 반경을 덮는 cell 만 탐색하고, 하버사인 거리로 정렬하여 id 만 반환
+ * 3. 모임 등록/수정/삭제/완료 이벤트로 동기화하고, 다른 서버에서 발생한 변경은 주기적 재구성으로 반영
+ */
+@Slf4j(topic = "MeetingGeoIndex")
+@Component
+@RequiredArgsConstructor
+public class MeetingGeoIndex {
+    private static final double CELL_SIZE_DEGREE = 0.05; /* 약 5.5km */
+    private static final double EARTH_RADIUS_METER = 6_371_008.8;
+    private static final double METER_PER_DEGREE = 111_320.0;
+    private static final long CELL_KEY_MULTIPLIER = 100_000L;
+
+    private final MeetingRepository meetingRepository;
+
+    @Value("${meeting.geo-index.enabled:true}")
+    private boolean enabled;
+
+    private volatile Map<Long, MeetingGeoEntry> entries = new ConcurrentHashMap<>();
+    private volatile Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /* 서버 기동 직후 최초 적재 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /* 다른 서버에서 발생한 변경 반영을 위한 주기적 재구성 */
+    @Scheduled(initialDelayString = "${meeting.geo-index.refresh-interval-ms:300000}",
+            fixedDelayString = "${meeting.geo-index.refresh-interval-ms:300000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<MeetingGeoEntry> loaded = meetingRepository.findGeoIndexEntries(
+                    List.of(MeetingStatusEnum.OPEN, MeetingStatusEnum.FULL));
+
+            Map<Long, MeetingGeoEntry> newEntries = new ConcurrentHashMap<>();
+            Map<Long, Set<Long>> newCells = new ConcurrentHashMap<>();
+            for (MeetingGeoEntry entry : loaded) {
+                newEntries.put(entry.getMeetingId(), entry);
+                newCells.computeIfAbsent(cellKeyOf(entry.getLocationLat(), entry.getLocationLng()),
+                        key -> ConcurrentHashMap.newKeySet()).add(entry.getMeetingId());
+            }
+
+            this.entries = newEntries;
+            this.cells = newCells;
+            this.ready = true;
+            log.info("위치 인덱스 재구성 완료 : " + newEntries.size() + "건");
+        } catch (Exception e) {
+            log.error("위치 인덱스 재구성 실패", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED -> put(MeetingGeoEntry.fromEntity(event.getMeeting()));
+            case DELETED, COMPLETED -> remove(event.getMeetingId());
+        }
+    }
+
+    public void put(MeetingGeoEntry entry) {
+        if (entry.getMeetingId() == null) {
+            return;
+        }
+        remove(entry.getMeetingId());
+        entries.put(entry.getMeetingId(), entry);
+        cells.computeIfAbsent(cellKeyOf(entry.getLocationLat(), entry.getLocationLng()),
+                key -> ConcurrentHashMap.newKeySet()).add(entry.getMeetingId());
+    }
+
+    public void remove(Long meetingId) {
+        MeetingGeoEntry removed = entries.remove(meetingId);
+        if (removed == null) {
+            return;
+        }
+        Set<Long> cell = cells.get(cellKeyOf(removed.getLocationLat(), removed.getLocationLng()));
+        if (cell != null) {
+            cell.remove(meetingId);
+        }
+    }
+
+    public Optional<MeetingGeoEntry> findEntry(Long meetingId) {
+        return Optional.ofNullable(entries.get(meetingId));
+    }
+
+    /*
+     * 기준 좌표 반경 radiusMeter 이내의 모임을 거리순(거리 동일 시 id 순)으로 조회
+     * skillMask / careerMask 가 null 이면 해당 조건은 전체 허용 (findMeetingST_Dwithin_array 와 동일한 조건)
+     */
+    public List<MeetingGeoHit> findNearest(double locationLat, double locationLng, double radiusMeter,
+                                           Long skillMask, Long careerMask, int offset, int limit) {
+        List<MeetingGeoHit> hits = findWithin(locationLat, locationLng, radiusMeter, skillMask, careerMask);
+        if (offset >= hits.size()) {
+            return List.of();
+        }
+        return hits.subList(offset, Math.min(hits.size(), offset + limit));
+    }
+
+    /* 커서 조회 : (거리, id) 가 (lastDistance, lastId) 이후인 모임만 limit 만큼 조회 */
+    public List<MeetingGeoHit> findNearestAfter(double locationLat, double locationLng, double radiusMeter,
+                                                Long skillMask, Long careerMask,
+                                                double lastDistance, Long lastId, int limit) {
+        return findWithin(locationLat, locationLng, radiusMeter, skillMask, careerMask).stream()
+                .filter(hit -> hit.getDistance() > lastDistance
+                        || (hit.getDistance() == lastDistance && hit.getMeetingId() > lastId))
+                .limit(limit)
+                .toList();
+    }
+
+    private List<MeetingGeoHit> findWithin(double locationLat, double locationLng, double radiusMeter,
+                                           Long skillMask, Long careerMask) {
+        double latDelta = radiusMeter / METER_PER_DEGREE;
+        double lngDelta = radiusMeter / (METER_PER_DEGREE * Math.max(Math.cos(Math.toRadians(locationLat)), 0.01));
+
+        long minLatIndex = cellIndexOf(locationLat - latDelta, 90);
+        long maxLatIndex = cellIndexOf(locationLat + latDelta, 90);
+        long minLngIndex = cellIndexOf(locationLng - lngDelta, 180);
+        long maxLngIndex = cellIndexOf(locationLng + lngDelta, 180);
+
+        List<MeetingGeoHit> hits = new ArrayList<>();
+        for (long latIndex = minLatIndex; latIndex <= maxLatIndex; latIndex++) {
+            for (long lngIndex = minLngIndex; lngIndex <= maxLngIndex; lngIndex++) {
+                Set<Long> cell = cells.get(latIndex * CELL_KEY_MULTIPLIER + lngIndex);
+                if (cell == null) {
+                    continue;
+                }
+                for (Long meetingId : cell) {
+                    MeetingGeoEntry entry = entries.get(meetingId);
+                    if (entry == null || !matchesFilter(entry, skillMask, careerMask)) {
+                        continue;
+                    }
+                    double distance = distanceMeter(locationLat, locationLng, entry.getLocationLat(), entry.getLocationLng());
+                    if (distance <= radiusMeter) {
+                        hits.add(new MeetingGeoHit(meetingId, distance));
+                    }
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(MeetingGeoHit::getDistance).thenComparing(MeetingGeoHit::getMeetingId));
+        return hits;
+    }
+
+    /* (기술 조건) OR (경력 조건), 비트마스크 AND 로 판정 */
+    private boolean matchesFilter(MeetingGeoEntry entry, Long skillMask, Long careerMask) {
+        boolean skillMatched = entry.hasAnySkill(skillMask);
+        boolean careerMatched = entry.hasAnyCareer(careerMask);
+        return skillMatched || careerMatched;
+    }
+
+    private long cellKeyOf(double locationLat, double locationLng) {
+        return cellIndexOf(locationLat, 90) * CELL_KEY_MULTIPLIER + cellIndexOf(locationLng, 180);
+    }
+
+    private long cellIndexOf(double degree, int offset) {
+        return (long) Math.floor((degree + offset) / CELL_SIZE_DEGREE);
+    }
+
+    /* 하버사인 공식 (m) */
+    private double distanceMeter(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METER * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,150 @@
+package com.sparta.moit.domain.meeting.popular;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.moit.domain.bookmark.event.BookMarkChangedEvent;
+import com.sparta.moit.domain.bookmark.repository.BookMarkCount;
+import com.sparta.moit.domain.bookmark.repository.BookMarkRepository;
+import com.sparta.moit.domain.meeting.dto.GetPopularResponseDto;
+import com.sparta.moit.domain.meeting.event.MeetingChangedEvent;
+import com.sparta.moit.domain.meeting.repository.MeetingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * 인기 모임 순위 (Redis Sorted Set, member : 모임 id, score : 북마크 수)
+ * 1. 북마크 추가/삭제 커밋 이후 score 증감
+ * 2. 모임이 삭제/완료되면 순위에서 제거
+ * 3. 주기적으로 DB 집계로 다시 만들어 누락, 중복 반영을 보정 (임시 키에 만든 뒤 RENAME)
+ * 4. top N 응답은 짧은 TTL 로 로컬 캐싱, Redis 장애 시 DB 집계로 대체
+ */
+@Slf4j(topic = "PopularMeetingRanking")
+@Component
+public class PopularMeetingRanking {
+    private static final String RANKING_KEY = "meeting:popular";
+    private static final String REBUILD_KEY = "meeting:popular:rebuild";
+    private static final String TOP_CACHE_KEY = "top";
+    private static final int TOP_SIZE = 5;
+    private static final int CANDIDATE_SIZE = TOP_SIZE * 2; /* 조회 시점에 마감된 모임 제외 대비 */
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeetingRepository meetingRepository;
+    private final BookMarkRepository bookMarkRepository;
+    private final Cache<String, List<GetPopularResponseDto>> topCache;
+
+    public PopularMeetingRanking(RedisTemplate<String, Object> redisTemplate,
+                                 MeetingRepository meetingRepository,
+                                 BookMarkRepository bookMarkRepository,
+                                 @Value("${meeting.popular.cache-ttl-seconds:10}") long cacheTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.meetingRepository = meetingRepository;
+        this.bookMarkRepository = bookMarkRepository;
+        this.topCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
+    }
+
+    public List<GetPopularResponseDto> getTop() {
+        return topCache.get(TOP_CACHE_KEY, key -> loadTop());
+    }
+
+    private List<GetPopularResponseDto> loadTop() {
+        try {
+            Set<Object> members = redisTemplate.opsForZSet().reverseRange(RANKING_KEY, 0, CANDIDATE_SIZE - 1);
+            if (members != null && !members.isEmpty()) {
+                List<Long> meetingIds = members.stream().map(member -> Long.valueOf(member.toString())).toList();
+                return meetingRepository.findAllByIdInOrder(meetingIds).stream()
+                        .limit(TOP_SIZE)
+                        .map(GetPopularResponseDto::fromEntity)
+                        .toList();
+            }
+        } catch (RuntimeException e) {
+            log.error("인기 모임 순위 조회 실패, DB 집계로 대체 : " + e.getMessage());
+        }
+        return meetingRepository.getPopularMeetings().stream().map(GetPopularResponseDto::fromEntity).toList();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookMarkChanged(BookMarkChangedEvent event) {
+        String member = String.valueOf(event.getMeetingId());
+        try {
+            ZSetOperations<String, Object> zSet = redisTemplate.opsForZSet();
+            if (event.isAdded()) {
+                zSet.incrementScore(RANKING_KEY, member, 1);
+                return;
+            }
+            /* 순위에 없는 모임(마감 등)은 감소시키지 않음 */
+            Double score = zSet.score(RANKING_KEY, member);
+            if (score == null) {
+                return;
+            }
+            if (score <= 1) {
+                zSet.remove(RANKING_KEY, member);
+            } else {
+                zSet.incrementScore(RANKING_KEY, member, -1);
+            }
+        } catch (RuntimeException e) {
+            log.error("인기 모임 순위 갱신 실패 (보정 작업에서 복구) : " + e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        switch (event.getType()) {
+            case DELETED, COMPLETED -> {
+                try {
+                    redisTemplate.opsForZSet().remove(RANKING_KEY, String.valueOf(event.getMeetingId()));
+                    topCache.invalidateAll();
+                } catch (RuntimeException e) {
+                    log.error("인기 모임 순위 제거 실패 (보정 작업에서 복구) : " + e.getMessage());
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /* DB 집계로 순위 재생성 */
+    @Scheduled(initialDelayString = "${meeting.popular.reconcile-interval-ms:600000}",
+            fixedDelayString = "${meeting.popular.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        try {
+            List<BookMarkCount> counts = bookMarkRepository.countByOpenOrFullMeeting();
+            if (counts.isEmpty()) {
+                redisTemplate.delete(RANKING_KEY);
+                return;
+            }
+
+            Set<ZSetOperations.TypedTuple<Object>> tuples = new HashSet<>();
+            for (BookMarkCount count : counts) {
+                tuples.add(ZSetOperations.TypedTuple.of(String.valueOf(count.getMeetingId()), count.getCount().doubleValue()));
+            }
+
+            redisTemplate.delete(REBUILD_KEY);
+            redisTemplate.opsForZSet().add(REBUILD_KEY, tuples);
+            redisTemplate.rename(REBUILD_KEY, RANKING_KEY);
+            topCache.invalidateAll();
+            log.info("인기 모임 순위 보정 완료 : " + counts.size() + "건");
+        } catch (RuntimeException e) {
+            log.error("인기 모임 순위 보정 실패 : " + e.getMessage());
+        }
+    }
+}
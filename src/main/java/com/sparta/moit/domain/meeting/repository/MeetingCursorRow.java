@@ -0,0 +1,8 @@
+package com.sparta.moit.domain.meeting.repository;
+
+/* 커서 조회 결과 (모임 id, 기준 좌표로부터의 거리) */
+public interface MeetingCursorRow {
+    Long getId();
+
+    Double getDist();
+}
@@ -0,0 +1,72 @@
+package com.sparta.moit.domain.meeting.repository;
+
+import com.sparta.moit.domain.meeting.entity.MeetingStatusEnum;
+import com.sparta.moit.global.util.TagMask;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/* 모임 상세 조회 결과 (모임 + 작성자 + 조회한 회원의 참가/북마크 여부를 한 번의 조회로) */
+@Getter
+public class MeetingDetailRow {
+    private final Long meetingId;
+    private final String meetingName;
+    private final String creatorName;
+    private final String creatorEmail;
+    private final Long[] careerIdList;
+    private final Long[] skillIdList;
+    private final Long careerMask;
+    private final Long skillMask;
+    private final LocalDate meetingDate;
+    private final LocalDateTime meetingStartTime;
+    private final LocalDateTime meetingEndTime;
+    private final String locationAddress;
+    private final Short registeredCount;
+    private final Short totalCount;
+    private final Integer budget;
+    private final String contents;
+    private final Double locationLat;
+    private final Double locationLng;
+    private final MeetingStatusEnum status;
+    private final boolean isJoin;
+    private final boolean isBookmarked;
+
+    public MeetingDetailRow(Long meetingId, String meetingName, String creatorName, String creatorEmail,
+                            Long[] careerIdList, Long[] skillIdList, Long careerMask, Long skillMask, LocalDate meetingDate,
+                            LocalDateTime meetingStartTime, LocalDateTime meetingEndTime, String locationAddress,
+                            Short registeredCount, Short totalCount, Integer budget, String contents,
+                            Double locationLat, Double locationLng, MeetingStatusEnum status,
+                            Boolean isJoin, Boolean isBookmarked) {
+        this.meetingId = meetingId;
+        this.meetingName = meetingName;
+        this.creatorName = creatorName;
+        this.creatorEmail = creatorEmail;
+        this.careerIdList = careerIdList;
+        this.skillIdList = skillIdList;
+        this.careerMask = careerMask;
+        this.skillMask = skillMask;
+        this.meetingDate = meetingDate;
+        this.meetingStartTime = meetingStartTime;
+        this.meetingEndTime = meetingEndTime;
+        this.locationAddress = locationAddress;
+        this.registeredCount = registeredCount;
+        this.totalCount = totalCount;
+        this.budget = budget;
+        this.contents = contents;
+        this.locationLat = locationLat;
+        this.locationLng = locationLng;
+        this.status = status;
+        this.isJoin = Boolean.TRUE.equals(isJoin);
+        this.isBookmarked = Boolean.TRUE.equals(isBookmarked);
+    }
+
+    /* Meeting.readSkillIds 와 동일 */
+    public Long[] readSkillIds(boolean maskRead) {
+        return maskRead && skillMask != null ? TagMask.toIds(skillMask) : skillIdList;
+    }
+
+    public Long[] readCareerIds(boolean maskRead) {
+        return maskRead && careerMask != null ? TagMask.toIds(careerMask) : careerIdList;
+    }
+}
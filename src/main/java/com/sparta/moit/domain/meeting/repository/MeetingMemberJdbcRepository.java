@@ -0,0 +1,49 @@
+package com.sparta.moit.domain.meeting.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 모임 회원 일괄 저장/삭제
+ * 저장은 multi-row INSERT 한 문장으로 처리하고, 동시에 먼저 참가한 행은 건너뛴 뒤 (ON CONFLICT DO NOTHING)
+ * 실제로 저장된 행만 RETURNING 으로 돌려받아 항목별 결과에 사용, 삭제도 실제로 삭제된 행만 돌려받음
+ */
+@Repository
+@RequiredArgsConstructor
+public class MeetingMemberJdbcRepository {
+    /* :rows 는 (meeting_id, member_id) 목록으로 전개 */
+    private static final String INSERT_SQL =
+            "INSERT INTO meeting_member (meeting_id, member_id) VALUES :rows " +
+                    "ON CONFLICT (member_id, meeting_id) DO NOTHING ";
+    private static final String DELETE_SQL =
+            "DELETE FROM meeting_member WHERE meeting_id = :meetingId AND member_id IN (:memberIds) " +
+                    "RETURNING member_id";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /* 한 모임에 여러 회원 저장 : 저장된 회원 id 반환 (이미 참가한 회원 제외) */
+    public List<Long> insertMembers(Long meetingId, List<Long> memberIds) {
+        List<Object[]> rows = memberIds.stream()
+                .map(memberId -> new Object[]{meetingId, memberId})
+                .toList();
+        return namedParameterJdbcTemplate.queryForList(INSERT_SQL + "RETURNING member_id", Map.of("rows", rows), Long.class);
+    }
+
+    /* 한 회원을 여러 모임에 저장 : 저장된 모임 id 반환 (이미 참가한 모임 제외) */
+    public List<Long> insertMeetings(Long memberId, List<Long> meetingIds) {
+        List<Object[]> rows = meetingIds.stream()
+                .map(meetingId -> new Object[]{meetingId, memberId})
+                .toList();
+        return namedParameterJdbcTemplate.queryForList(INSERT_SQL + "RETURNING meeting_id", Map.of("rows", rows), Long.class);
+    }
+
+    /* 한 모임에서 여러 회원 삭제 : 삭제된 회원 id 반환 (동시에 먼저 탈퇴한 회원 제외) */
+    public List<Long> deleteMembers(Long meetingId, List<Long> memberIds) {
+        return namedParameterJdbcTemplate.queryForList(DELETE_SQL,
+                Map.of("meetingId", meetingId, "memberIds", memberIds), Long.class);
+    }
+}
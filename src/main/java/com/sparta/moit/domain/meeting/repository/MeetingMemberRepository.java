@@ -5,7 +5,11 @@ import com.sparta.moit.domain.meeting.entity.MeetingMember;
 import com.sparta.moit.domain.meeting.entity.MeetingStatusEnum;
 import com.sparta.moit.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MeetingMemberRepository extends JpaRepository<MeetingMember, Long> {
@@ -17,7 +21,22 @@ public interface MeetingMemberRepository extends JpaRepository<MeetingMember, Lo
 
     boolean existsByMemberIdAndMeetingId(Long memberId, Long meetingId);
 
+    /* 해당 상태의 모임에 참가 중인지 확인 */
+    boolean existsByMemberIdAndMeetingIdAndMeeting_StatusIn(Long memberId, Long meetingId, Collection<MeetingStatusEnum> statusList);
+
     /* status != DELETE인 모임 개수 조회 */
     int countByMemberIdAndMeeting_StatusNot(Long memberId, MeetingStatusEnum status);
 
+    /* 회원이 참가한 모임 중 해당 상태인 모임 id 조회 */
+    @Query("SELECT mm.meeting.id FROM MeetingMember mm WHERE mm.member.id = :memberId AND mm.meeting.status IN :statusList")
+    List<Long> findMeetingIdsByMemberIdAndStatusIn(@Param("memberId") Long memberId, @Param("statusList") Collection<MeetingStatusEnum> statusList);
+
+    /* 일괄 참가/탈퇴 : 모임에 이미 참가한 회원 id 조회 */
+    @Query("SELECT mm.member.id FROM MeetingMember mm WHERE mm.meeting.id = :meetingId AND mm.member.id IN :memberIds")
+    List<Long> findMemberIdsByMeetingIdAndMemberIdIn(@Param("meetingId") Long meetingId, @Param("memberIds") Collection<Long> memberIds);
+
+    /* 여러 모임 참가 : 회원이 이미 참가한 모임 id 조회 */
+    @Query("SELECT mm.meeting.id FROM MeetingMember mm WHERE mm.member.id = :memberId AND mm.meeting.id IN :meetingIds")
+    List<Long> findMeetingIdsByMemberIdAndMeetingIdIn(@Param("memberId") Long memberId, @Param("meetingIds") Collection<Long> meetingIds);
+
 }
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,8 +15,19 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long>, Meeting
 
     Optional<Meeting> findByIdAndCreator(Long meetingId, Member member);
 
+    @Query("SELECT m.status FROM meeting m WHERE m.id = :meetingId")
+    Optional<MeetingStatusEnum> findStatusById(@Param("meetingId") Long meetingId);
+
     int countByCreatorAndStatusNot(Member creator, MeetingStatusEnum status);
 
+    /* 여러 모임 참가 : 존재하는 (삭제되지 않은) 모임 id 조회 */
+    @Query("SELECT m.id FROM meeting m WHERE m.id IN :meetingIds AND m.status != :status")
+    List<Long> findIdsByIdInAndStatusNot(@Param("meetingIds") Collection<Long> meetingIds, @Param("status") MeetingStatusEnum status);
+
+    /* 여러 모임 참가 : 자리를 확보하지 못한 모임 중 해당 상태인 모임 id 조회 (실패 원인 구분) */
+    @Query("SELECT m.id FROM meeting m WHERE m.id IN :meetingIds AND m.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("meetingIds") Collection<Long> meetingIds, @Param("status") MeetingStatusEnum status);
+
     @Query("SELECT m FROM meeting m WHERE m.creator.id = :memberId AND m.status != :status " +
             "ORDER BY CASE WHEN m.status = 'OPEN' OR m.status = 'FULL' THEN m.meetingDate END ASC, " +
             "CASE WHEN m.status = 'COMPLETE' THEN m.meetingDate END DESC")
@@ -50,14 +62,15 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long>, Meeting
                                         @Param("pageSize") int pageSize,
                                         @Param("offset") int offset);
 
+    /* 기술/경력 필터 : 비트마스크 AND 한 번으로 처리 (TagMask) */
     @Query(value = "SELECT m.*, " +
             "ST_Distance( CAST (ST_SetSRID(ST_MakePoint(:locationLng, :locationLat), 4326) AS geography), m.location_position) as dist " +
             "FROM meeting m " +
             "WHERE " +
             "   ST_Dwithin( CAST (ST_SetSRID(ST_MakePoint(:locationLng, :locationLat), 4326) AS geography), m.location_position, 5000) " +
             "   AND (" +
-            "       (:skillIdsStr IS NULL OR m.skill_id_list && CAST(string_to_array(:skillIdsStr, ',') AS bigint[])) " +
-            "    OR (:careerIdsStr IS NULL OR m.career_id_list && CAST(string_to_array(:careerIdsStr, ',') AS bigint[])) " +
+            "       (CAST(:skillMask AS bigint) IS NULL OR (m.skill_mask & CAST(:skillMask AS bigint)) <> 0) " +
+            "    OR (CAST(:careerMask AS bigint) IS NULL OR (m.career_mask & CAST(:careerMask AS bigint)) <> 0) " +
             ")" +
             "   AND m.status <> 'DELETE' " +
             "   AND m.status <> 'COMPLETE' "+
@@ -66,12 +79,81 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long>, Meeting
             "OFFSET :offset", nativeQuery = true)
     List<Meeting> findMeetingST_Dwithin_array(@Param("locationLng") Double locationLng,
                                         @Param("locationLat") Double locationLat,
-                                        @Param("skillIdsStr") String skillIdsStr,
-                                        @Param("careerIdsStr") String careerIdsStr,
+                                        @Param("skillMask") Long skillMask,
+                                        @Param("careerMask") Long careerMask,
                                         @Param("pageSize") int pageSize,
                                         @Param("offset") int offset);
 
 
+    /* 커서 기반 조회 (jsonb) : (거리, id) 가 커서 이후인 모임 id 만 조회 */
+    @Query(value = "SELECT t.id AS id, t.dist AS dist FROM ( " +
+            "   SELECT m.id, " +
+            "   ST_Distance( CAST (ST_SetSRID(ST_MakePoint(:locationLng, :locationLat), 4326) AS geography), m.location_position) as dist " +
+            "   FROM meeting m " +
+            "   WHERE " +
+            "      ST_Dwithin( CAST (ST_SetSRID(ST_MakePoint(:locationLng, :locationLat), 4326) AS geography), m.location_position, 5000) " +
+            "      AND ((:skillIdsStr IS NULL OR EXISTS (" +
+            "            SELECT 1 FROM jsonb_array_elements(m.skill_list) AS skill_json " +
+            "            WHERE CAST(skill_json->>'skillId' AS TEXT) = ANY(string_to_array(:skillIdsStr, ',')) " +
+            "          )) " +
+            "      OR (:careerIdsStr IS NULL OR EXISTS (" +
+            "            SELECT 1 FROM jsonb_array_elements(m.career_list) AS career_json " +
+            "            WHERE CAST(career_json->>'careerId' AS TEXT) = ANY(string_to_array(:careerIdsStr, ',')) " +
+            "          ))) " +
+            "      AND m.status <> 'DELETE' " +
+            "      AND m.status <> 'COMPLETE' " +
+            ") t " +
+            "WHERE t.dist > :lastDistance OR (t.dist = :lastDistance AND t.id > :lastId) " +
+            "ORDER BY t.dist asc, t.id asc " +
+            "LIMIT :pageSize", nativeQuery = true)
+    List<MeetingCursorRow> findMeetingST_Dwithin_cursor(@Param("locationLng") Double locationLng,
+                                                        @Param("locationLat") Double locationLat,
+                                                        @Param("skillIdsStr") String skillIdsStr,
+                                                        @Param("careerIdsStr") String careerIdsStr,
+                                                        @Param("lastDistance") double lastDistance,
+                                                        @Param("lastId") Long lastId,
+                                                        @Param("pageSize") int pageSize);
+
+    /* 커서 기반 조회 (비트마스크) : (거리, id) 가 커서 이후인 모임 id 만 조회 */
+    @Query(value = "SELECT t.id AS id, t.dist AS dist FROM ( " +
+            "   SELECT m.id, " +
+            "   ST_Distance( CAST (ST_SetSRID(ST_MakePoint(:locationLng, :locationLat), 4326) AS geography), m.location_position) as dist " +
+            "   FROM meeting m " +
+            "   WHERE " +
+            "      ST_Dwithin( CAST (ST_SetSRID(ST_MakePoint(:locationLng, :locationLat), 4326) AS geography), m.location_position, 5000) " +
+            "      AND (" +
+            "          (CAST(:skillMask AS bigint) IS NULL OR (m.skill_mask & CAST(:skillMask AS bigint)) <> 0) " +
+            "       OR (CAST(:careerMask AS bigint) IS NULL OR (m.career_mask & CAST(:careerMask AS bigint)) <> 0) " +
+            "      )" +
+            "      AND m.status <> 'DELETE' " +
+            "      AND m.status <> 'COMPLETE' " +
+            ") t " +
+            "WHERE t.dist > :lastDistance OR (t.dist = :lastDistance AND t.id > :lastId) " +
+            "ORDER BY t.dist asc, t.id asc " +
+            "LIMIT :pageSize", nativeQuery = true)
+    List<MeetingCursorRow> findMeetingST_Dwithin_array_cursor(@Param("locationLng") Double locationLng,
+                                                              @Param("locationLat") Double locationLat,
+                                                              @Param("skillMask") Long skillMask,
+                                                              @Param("careerMask") Long careerMask,
+                                                              @Param("lastDistance") double lastDistance,
+                                                              @Param("lastId") Long lastId,
+                                                              @Param("pageSize") int pageSize);
+
+    /* 전문 검색 : 관련도(ts_rank) 내림차순, (관련도, id) 가 커서 이후인 모임 id 만 조회 */
+    @Query(value = "SELECT t.id AS id, t.score AS score FROM ( " +
+            "   SELECT m.id, CAST(ts_rank(m.search_vector, q) AS double precision) AS score " +
+            "   FROM meeting m, to_tsquery('simple', :tsQuery) q " +
+            "   WHERE m.search_vector @@ q " +
+            "      AND m.status IN ('OPEN', 'FULL') " +
+            ") t " +
+            "WHERE t.score < :lastScore OR (t.score = :lastScore AND t.id < :lastId) " +
+            "ORDER BY t.score desc, t.id desc " +
+            "LIMIT :pageSize", nativeQuery = true)
+    List<MeetingSearchRow> searchFullText(@Param("tsQuery") String tsQuery,
+                                          @Param("lastScore") double lastScore,
+                                          @Param("lastId") Long lastId,
+                                          @Param("pageSize") int pageSize);
+
     @Query(value = "SELECT * FROM meeting " +
             "ORDER BY ST_DISTANCE_SPHERE(point(:locationLng, :locationLat), point(location_lng, location_lat)) " +
             "LIMIT :limit OFFSET :page",
@@ -103,5 +185,14 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long>, Meeting
             nativeQuery = true)
     List<Meeting> getMeetingsWithSkillAndCareer(Double locationLat, Double locationLng, List<Long> skillId, List<Long> careerId, int limit, int page);
 
+    /* 연결 테이블 조회(getMeetingsWith*)의 비트마스크 버전 (meeting.tags.read-mode=mask), 기술 AND 경력 조건 */
+    @Query(value = "SELECT m.* FROM meeting m "
+            + "WHERE (CAST(:skillMask AS bigint) IS NULL OR (m.skill_mask & CAST(:skillMask AS bigint)) <> 0) "
+            + "AND (CAST(:careerMask AS bigint) IS NULL OR (m.career_mask & CAST(:careerMask AS bigint)) <> 0) "
+            + "ORDER BY (6371 * acos(cos(radians(:locationLat)) * cos(radians(m.location_lat)) * cos(radians(m.location_lng) - radians(:locationLng)) + sin(radians(:locationLat)) * sin(radians(m.location_lat)))) ASC "
+            + "LIMIT :limit OFFSET :page",
+            nativeQuery = true)
+    List<Meeting> getMeetingsWithTagMask(Double locationLat, Double locationLng, Long skillMask, Long careerMask, int limit, int page);
+
 
 }
@@ -3,24 +3,44 @@ package com.sparta.moit.domain.meeting.repository;
 import com.sparta.moit.domain.meeting.dto.GetMyPageDto;
 import com.sparta.moit.domain.meeting.entity.Meeting;
 import com.sparta.moit.domain.meeting.entity.MeetingStatusEnum;
+import com.sparta.moit.domain.meeting.index.MeetingGeoEntry;
+import com.sparta.moit.domain.mypage.dto.MypageMeetingResponseDto;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 
 public interface MeetingRepositoryCustom {
     Slice<Meeting> getMeetingSlice(Double locationLat, Double locationLng, List<Long> skillId, List<Long> careerId, Pageable pageable);
 
+    List<MeetingCursorRow> getMeetingCursorRows(Double locationLat, Double locationLng, double radiusMeter, List<Long> skillId, List<Long> careerId, double lastDistance, Long lastId, int pageSize);
+
     Slice<Meeting> findByKeyword(String keyword, Pageable pageable);
 
+    List<Long> findIdsByKeywordBefore(String keyword, Long lastId, int pageSize);
+
+    Optional<MeetingDetailRow> findDetailRow(Long meetingId, Long viewerId);
+
+    List<MypageMeetingResponseDto> findJoinedMeetingRows(Long memberId, LocalDate lastDate, Long lastId, int pageSize);
+
+    List<MypageMeetingResponseDto> findHeldMeetingRows(Long memberId, LocalDate lastDate, Long lastId, int pageSize);
+
+    List<MypageMeetingResponseDto> findCompletedMeetingRows(Long memberId, LocalDate lastDate, Long lastId, int pageSize);
+
+    List<MypageMeetingResponseDto> findBookmarkedMeetingRows(Long memberId, LocalDate lastDate, Long lastId, int pageSize);
+
     List<GetMyPageDto> getMyPage(Long memberId, MeetingStatusEnum status);
 
     List<Meeting> findMeetingsByMember(Long memberId);
 
-    List<Meeting> findAllIncompleteMeetingsForHour();
-
     List<Meeting> getPopularMeetings();
 
     List<Meeting> findHeldMeetingsByCreatorId(Long memberId);
+
+    List<MeetingGeoEntry> findGeoIndexEntries(List<MeetingStatusEnum> statusList);
+
+    List<Meeting> findAllByIdInOrder(List<Long> meetingIds);
 }
@@ -1,5 +1,6 @@
 package com.sparta.moit.domain.meeting.repository;
 
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.*;
@@ -9,6 +10,9 @@ import com.sparta.moit.domain.meeting.dto.GetMyPageDto;
 import com.sparta.moit.domain.meeting.entity.Meeting;
 import com.sparta.moit.domain.meeting.entity.MeetingStatusEnum;
 import com.sparta.moit.domain.meeting.entity.QMeeting;
+import com.sparta.moit.domain.meeting.index.MeetingGeoEntry;
+import com.sparta.moit.domain.mypage.dto.MypageMeetingResponseDto;
+import com.sparta.moit.global.util.TagMask;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
@@ -16,20 +20,29 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.sparta.moit.domain.bookmark.entity.QBookMark.bookMark;
 import static com.sparta.moit.domain.meeting.entity.QCareer.career;
 import static com.sparta.moit.domain.meeting.entity.QMeeting.meeting;
 import static com.sparta.moit.domain.meeting.entity.QMeetingMember.meetingMember;
 import static com.sparta.moit.domain.meeting.entity.QMeetingSkill.meetingSkill;
+import static com.sparta.moit.domain.member.entity.QMember.member;
 
 @Slf4j(topic = "스케줄러")
 @RequiredArgsConstructor
 public class MeetingRepositoryImpl implements MeetingRepositoryCustom {
+    /* select 절 boolean 상수 : 파라미터 대신 리터럴로 사용 */
+    private static final BooleanExpression FALSE_SELECTION = Expressions.booleanTemplate("false");
+    private static final BooleanExpression TRUE_SELECTION = Expressions.booleanTemplate("true");
+    private static final double METER_PER_DEGREE = 111_320.0;
+
     private final JPAQueryFactory queryFactory;
 
     @Override
@@ -85,6 +98,35 @@ public class MeetingRepositoryImpl implements MeetingRepositoryCustom {
         return new SliceImpl<>(meetingList, pageable, hasNextPage(meetingList, pageable.getPageSize()));
     }
 
+    /*
+     * 모임 조회 (커서) : 하버사인 거리(km) 기준 (거리, id) 가 커서 이후인 모임 id 만 조회
+     * 반경을 덮는 위도/경도 범위로 먼저 거른 뒤 거리 계산, 기술/경력 조건은 비트마스크로 판정 (연결 테이블 조인 없음)
+     */
+    @Override
+    public List<MeetingCursorRow> getMeetingCursorRows(Double locationLat, Double locationLng, double radiusMeter, List<Long> skillId, List<Long> careerId,
+                                                       double lastDistance, Long lastId, int pageSize) {
+        NumberExpression<Double> distance = distanceExpression3(locationLat, locationLng);
+
+        return queryFactory
+                .select(meeting.id, distance)
+                .from(meeting)
+                .where(
+                        withinBoundingBox(locationLat, locationLng, radiusMeter),
+                        distance.loe(radiusMeter / 1000),
+                        skillMaskAny(skillId),
+                        careerMaskAny(careerId),
+                        isOpenOrFull(),
+                        distance.gt(lastDistance)
+                                .or(distance.eq(lastDistance).and(meeting.id.gt(lastId)))
+                )
+                .orderBy(distance.asc(), meeting.id.asc())
+                .limit(pageSize)
+                .fetch()
+                .stream()
+                .map(tuple -> (MeetingCursorRow) new DistanceRow(tuple.get(meeting.id), tuple.get(distance)))
+                .toList();
+    }
+
     /* 검색 */
     @Override
     public Slice<Meeting> findByKeyword(String keyword, Pageable pageable) {
@@ -112,24 +154,76 @@ public class MeetingRepositoryImpl implements MeetingRepositoryCustom {
         return new SliceImpl<>(meetings, pageable, hasNextPage(meetings, pageable.getPageSize()));
     }
 
+    /* 검색 (커서) : LIKE 조건, id 내림차순으로 lastId 이전 모임 id 만 조회 */
     @Override
-    public List<Meeting> findAllIncompleteMeetingsForHour() {
-        LocalDateTime oneHourAgo = LocalDateTime.now().plusHours(8);
-        LocalDateTime now = LocalDateTime.now().plusHours(9);
-        LocalTime oneHourAgoTime = oneHourAgo.toLocalTime();
-        LocalTime nowTime = now.toLocalTime();
-
-        return queryFactory.selectFrom(meeting)
-                .where(isOpenOrFull())
-                .where(meeting.meetingDate.eq(now.toLocalDate()))
-                /* meetingDate가 오늘이고, meetingEndTime이 1시간 전부터 현재까지인 회의 */
-                .where(meeting.meetingEndTime.hour().between(
-                                oneHourAgoTime.getHour(), nowTime.getHour()
-                        )
+    public List<Long> findIdsByKeywordBefore(String keyword, Long lastId, int pageSize) {
+        return queryFactory.select(meeting.id)
+                .from(meeting)
+                .where(
+                        titleLike(keyword)
+                                .or(addressLike(keyword))
+                                .or(contentLike(keyword)),
+                        isOpenOrFull(),
+                        meeting.id.lt(lastId)
                 )
+                .orderBy(meeting.id.desc())
+                .limit(pageSize)
                 .fetch();
     }
 
+    /*
+     * 모임 상세 조회 : 작성자 join, 참가/북마크 여부는 EXISTS 서브쿼리로 한 번에 조회
+     * viewerId 가 null 이면 (비로그인) 참가/북마크 여부는 false
+     */
+    @Override
+    public Optional<MeetingDetailRow> findDetailRow(Long meetingId, Long viewerId) {
+        BooleanExpression isJoin = viewerId == null
+                ? FALSE_SELECTION
+                : asSelection(JPAExpressions.selectOne()
+                .from(meetingMember)
+                .where(meetingMember.meeting.id.eq(meeting.id), meetingMember.member.id.eq(viewerId))
+                .exists());
+        BooleanExpression isBookmarked = viewerId == null
+                ? FALSE_SELECTION
+                : asSelection(JPAExpressions.selectOne()
+                .from(bookMark)
+                .where(bookMark.meeting.id.eq(meeting.id), bookMark.member.id.eq(viewerId))
+                .exists());
+
+        MeetingDetailRow row = queryFactory
+                .select(Projections.constructor(
+                        MeetingDetailRow.class,
+                        meeting.id,
+                        meeting.meetingName,
+                        member.username,
+                        member.email,
+                        meeting.careerIdList,
+                        meeting.skillIdList,
+                        meeting.careerMask,
+                        meeting.skillMask,
+                        meeting.meetingDate,
+                        meeting.meetingStartTime,
+                        meeting.meetingEndTime,
+                        meeting.locationAddress,
+                        meeting.registeredCount,
+                        meeting.totalCount,
+                        meeting.budget,
+                        meeting.contents,
+                        meeting.locationLat,
+                        meeting.locationLng,
+                        meeting.status,
+                        isJoin,
+                        isBookmarked))
+                .from(meeting)
+                .join(meeting.creator, member)
+                .where(
+                        meeting.id.eq(meetingId),
+                        meeting.status.ne(MeetingStatusEnum.DELETE)
+                )
+                .fetchOne();
+        return Optional.ofNullable(row);
+    }
+
     @Override
     public List<Meeting> getPopularMeetings() {
         List<Long> ids= queryFactory.select(bookMark.meeting.id)
@@ -166,8 +260,136 @@ public class MeetingRepositoryImpl implements MeetingRepositoryCustom {
                 .fetch();
     }
 
+    /* 위치 인덱스 적재용 조회 (연관 엔티티 없이 좌표, 필터 컬럼만 조회) */
+    @Override
+    public List<MeetingGeoEntry> findGeoIndexEntries(List<MeetingStatusEnum> statusList) {
+        return queryFactory
+                .select(Projections.constructor(
+                        MeetingGeoEntry.class,
+                        meeting.id,
+                        meeting.locationLat,
+                        meeting.locationLng,
+                        meeting.skillMask,
+                        meeting.careerMask))
+                .from(meeting)
+                .where(
+                        meeting.status.in(statusList),
+                        meeting.locationLat.isNotNull(),
+                        meeting.locationLng.isNotNull()
+                )
+                .fetch();
+    }
+
+    /* id 목록 순서대로 모임 조회 (인덱스 조회 이후 이미 삭제/완료된 모임은 제외) */
+    @Override
+    public List<Meeting> findAllByIdInOrder(List<Long> meetingIds) {
+        if (meetingIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Meeting> meetingMap = queryFactory
+                .selectFrom(meeting)
+                .leftJoin(meeting.creator).fetchJoin()
+                .where(
+                        meeting.id.in(meetingIds),
+                        isOpenOrFull()
+                )
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(Meeting::getId, Function.identity()));
+
+        return meetingIds.stream()
+                .map(meetingMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /*
+     * 마이페이지 모임 목록 (커서) : 응답에 필요한 컬럼만 조회, 상태 조건은 SQL 에서 처리
+     * 모임 날짜 내림차순, 같은 날짜는 id 내림차순 / lastDate 가 null 이면 첫 페이지
+     */
+    @Override
+    public List<MypageMeetingResponseDto> findJoinedMeetingRows(Long memberId, LocalDate lastDate, Long lastId, int pageSize) {
+        return queryFactory
+                .select(mypageMeetingProjection(FALSE_SELECTION))
+                .from(meetingMember)
+                .join(meetingMember.meeting, meeting)
+                .where(
+                        meetingMember.member.id.eq(memberId),
+                        isOpenOrFull(),
+                        meetingDateIdBefore(lastDate, lastId)
+                )
+                .orderBy(meeting.meetingDate.desc(), meeting.id.desc())
+                .limit(pageSize)
+                .fetch();
+    }
+
+    @Override
+    public List<MypageMeetingResponseDto> findHeldMeetingRows(Long memberId, LocalDate lastDate, Long lastId, int pageSize) {
+        return findCreatedMeetingRows(memberId, meeting.status.ne(MeetingStatusEnum.DELETE), lastDate, lastId, pageSize);
+    }
+
+    @Override
+    public List<MypageMeetingResponseDto> findCompletedMeetingRows(Long memberId, LocalDate lastDate, Long lastId, int pageSize) {
+        return findCreatedMeetingRows(memberId, meeting.status.eq(MeetingStatusEnum.COMPLETE), lastDate, lastId, pageSize);
+    }
+
+    @Override
+    public List<MypageMeetingResponseDto> findBookmarkedMeetingRows(Long memberId, LocalDate lastDate, Long lastId, int pageSize) {
+        return queryFactory
+                .select(mypageMeetingProjection(TRUE_SELECTION))
+                .from(bookMark)
+                .join(bookMark.meeting, meeting)
+                .where(
+                        bookMark.member.id.eq(memberId),
+                        meeting.status.ne(MeetingStatusEnum.DELETE),
+                        meetingDateIdBefore(lastDate, lastId)
+                )
+                .orderBy(meeting.meetingDate.desc(), meeting.id.desc())
+                .limit(pageSize)
+                .fetch();
+    }
+
     /* Method */
 
+    private List<MypageMeetingResponseDto> findCreatedMeetingRows(Long memberId, BooleanExpression statusCondition, LocalDate lastDate, Long lastId, int pageSize) {
+        return queryFactory
+                .select(mypageMeetingProjection(FALSE_SELECTION))
+                .from(meeting)
+                .where(
+                        meeting.creator.id.eq(memberId),
+                        statusCondition,
+                        meetingDateIdBefore(lastDate, lastId)
+                )
+                .orderBy(meeting.meetingDate.desc(), meeting.id.desc())
+                .limit(pageSize)
+                .fetch();
+    }
+
+    private ConstructorExpression<MypageMeetingResponseDto> mypageMeetingProjection(BooleanExpression isBookmarked) {
+        return Projections.constructor(
+                MypageMeetingResponseDto.class,
+                meeting.id,
+                meeting.meetingName,
+                meeting.meetingDate,
+                meeting.meetingStartTime,
+                meeting.meetingEndTime,
+                meeting.status,
+                isBookmarked);
+    }
+
+    private BooleanExpression meetingDateIdBefore(LocalDate lastDate, Long lastId) {
+        if (lastDate == null) {
+            return null;
+        }
+        return meeting.meetingDate.lt(lastDate)
+                .or(meeting.meetingDate.eq(lastDate).and(meeting.id.lt(lastId)));
+    }
+
+    /* select 절 boolean 값 : 조건식은 CASE 로 감싸서 사용 */
+    private BooleanExpression asSelection(BooleanExpression predicate) {
+        return Expressions.booleanTemplate("case when {0} then true else false end", predicate);
+    }
+
     private BooleanExpression isOpenOrFull() {
         return meeting.status.in(MeetingStatusEnum.OPEN, MeetingStatusEnum.FULL);
     }
@@ -200,6 +422,33 @@ public class MeetingRepositoryImpl implements MeetingRepositoryCustom {
         return skillId == null || skillId.isEmpty() ? null : meetingSkill.skill.Id.in(skillId);
     }
 
+    private BooleanExpression skillMaskAny(List<Long> skillId) {
+        return skillId == null || skillId.isEmpty() ? null : bitAnd(meeting.skillMask, TagMask.of(skillId)).ne(0L);
+    }
+
+    private BooleanExpression careerMaskAny(List<Long> careerId) {
+        return careerId == null || careerId.isEmpty() ? null : bitAnd(meeting.careerMask, TagMask.of(careerId)).ne(0L);
+    }
+
+    private NumberExpression<Long> bitAnd(NumberPath<Long> maskPath, long mask) {
+        return Expressions.numberTemplate(Long.class, "bitand({0}, {1})", maskPath, mask);
+    }
+
+    /* 반경 radiusMeter 를 덮는 위도/경도 범위 (idx_meeting_location 사용) */
+    private BooleanExpression withinBoundingBox(Double locationLat, Double locationLng, double radiusMeter) {
+        double latDelta = radiusMeter / METER_PER_DEGREE;
+        double lngDelta = radiusMeter / (METER_PER_DEGREE * Math.max(Math.cos(Math.toRadians(locationLat)), 0.01));
+        return meeting.locationLat.between(locationLat - latDelta, locationLat + latDelta)
+                .and(meeting.locationLng.between(locationLng - lngDelta, locationLng + lngDelta));
+    }
+
+    /* distanceExpression2 와 동일 (커서 비교를 위해 NumberExpression 으로 반환) */
+    private NumberExpression<Double> distanceExpression3(Double locationLat, Double locationLng) {
+        return Expressions.numberTemplate(Double.class,
+                "(6371 * acos(cos(radians(meeting.locationLat)) * cos(radians({0})) * cos(radians({1}) - radians(meeting.locationLng)) + sin(radians(meeting.locationLat)) * sin(radians({0}))))",
+                locationLat, locationLng);
+    }
+
     /* MySQL 내장 함수 */
     private ComparableExpressionBase<Double> distanceExpression(Double locationLat, Double locationLng) {
         return Expressions.numberTemplate(Double.class,
@@ -214,4 +463,23 @@ public class MeetingRepositoryImpl implements MeetingRepositoryCustom {
                 locationLat, locationLng);
     }
 
+    private static class DistanceRow implements MeetingCursorRow {
+        private final Long id;
+        private final Double dist;
+
+        private DistanceRow(Long id, Double dist) {
+            this.id = id;
+            this.dist = dist;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Double getDist() {
+            return dist;
+        }
+    }
 }
@@ -0,0 +1,8 @@
+package com.sparta.moit.domain.meeting.repository;
+
+/* 전문 검색 결과 (모임 id, 관련도) */
+public interface MeetingSearchRow {
+    Long getId();
+
+    Double getScore();
+}
@@ -0,0 +1,118 @@
+package com.sparta.moit.domain.meeting.repository;
+
+import com.sparta.moit.domain.meeting.entity.MeetingStatusEnum;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/*
+ * 모임 상태 일괄 변경 (엔티티를 영속성 컨텍스트에 올리지 않고 UPDATE 한 번으로 처리)
+ * RETURNING 으로 변경된 모임 id 를 돌려받아 캐시/인덱스 무효화에 사용
+ * 참가 인원 증감도 조건부 UPDATE 한 번으로 처리하여 동시 참가 시 초과 참가 방지
+ */
+@Repository
+@RequiredArgsConstructor
+public class MeetingStatusJdbcRepository {
+    /* idx_meeting_status_end_time 인덱스 사용, 다른 서버가 처리 중인 행은 건너뜀 (SKIP LOCKED) */
+    private static final String COMPLETE_ENDED_SQL =
+            "UPDATE meeting SET status = 'COMPLETE' " +
+                    "WHERE id IN ( " +
+                    "   SELECT id FROM meeting " +
+                    "   WHERE status IN ('OPEN', 'FULL') " +
+                    "      AND meeting_end_time <= ? " +
+                    "   ORDER BY meeting_end_time " +
+                    "   LIMIT ? " +
+                    "   FOR UPDATE SKIP LOCKED " +
+                    ") " +
+                    "RETURNING id";
+
+    /* 남은 자리가 있을 때만 참가 인원 증가, 마지막 자리면 FULL 로 변경 (조회 후 수정 없이 한 문장으로 처리) */
+    private static final String RESERVE_SEAT_SQL =
+            "UPDATE meeting SET registered_count = registered_count + 1, " +
+                    "   status = CASE WHEN registered_count + 1 >= total_count THEN 'FULL' ELSE status END " +
+                    "WHERE id = ? " +
+                    "   AND status = 'OPEN' " +
+                    "   AND registered_count < total_count " +
+                    "RETURNING status";
+
+    /* 참가 인원 감소, FULL 이었으면 다시 OPEN 으로 변경 (완료/삭제된 모임의 참가 인원은 유지) */
+    private static final String RELEASE_SEAT_SQL =
+            "UPDATE meeting SET registered_count = registered_count - 1, " +
+                    "   status = CASE WHEN status = 'FULL' THEN 'OPEN' ELSE status END " +
+                    "WHERE id = ? " +
+                    "   AND status IN ('OPEN', 'FULL') " +
+                    "   AND registered_count > 0";
+
+    /* 일괄 참가 : 남은 자리 만큼만 (최대 요청 수) 증가시키고 확보한 자리 수 반환 */
+    private static final String RESERVE_SEATS_SQL =
+            "WITH m AS ( " +
+                    "   SELECT id, registered_count AS before_count, " +
+                    "      LEAST(?, total_count - registered_count) AS granted, total_count " +
+                    "   FROM meeting " +
+                    "   WHERE id = ? AND status = 'OPEN' AND registered_count < total_count " +
+                    "   FOR UPDATE " +
+                    ") " +
+                    "UPDATE meeting SET registered_count = m.before_count + m.granted, " +
+                    "   status = CASE WHEN m.before_count + m.granted >= m.total_count THEN 'FULL' ELSE meeting.status END " +
+                    "FROM m " +
+                    "WHERE meeting.id = m.id " +
+                    "RETURNING m.granted";
+
+    /* 여러 모임 참가 : 자리가 남은 모임만 한 문장으로 증가시키고 확보한 모임 id 반환 */
+    private static final String RESERVE_SEAT_IN_EACH_SQL =
+            "UPDATE meeting SET registered_count = registered_count + 1, " +
+                    "   status = CASE WHEN registered_count + 1 >= total_count THEN 'FULL' ELSE status END " +
+                    "WHERE id IN (:meetingIds) " +
+                    "   AND status = 'OPEN' " +
+                    "   AND registered_count < total_count " +
+                    "RETURNING id";
+
+    /* 일괄 탈퇴 : 참가 인원 감소 (완료/삭제된 모임의 참가 인원은 유지) */
+    private static final String RELEASE_SEATS_SQL =
+            "UPDATE meeting SET registered_count = GREATEST(registered_count - ?, 0), " +
+                    "   status = CASE WHEN status = 'FULL' THEN 'OPEN' ELSE status END " +
+                    "WHERE id = ? " +
+                    "   AND status IN ('OPEN', 'FULL')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /* 종료 시각이 endTime 이전인 OPEN / FULL 모임을 최대 chunkSize 건 완료 처리 */
+    public List<Long> completeEndedBefore(LocalDateTime endTime, int chunkSize) {
+        return jdbcTemplate.queryForList(COMPLETE_ENDED_SQL, Long.class, Timestamp.valueOf(endTime), chunkSize);
+    }
+
+    /* 자리 확보 : 변경 후 상태 반환, 자리가 없거나 OPEN 이 아니면 empty */
+    public Optional<MeetingStatusEnum> reserveSeat(Long meetingId) {
+        return jdbcTemplate.queryForList(RESERVE_SEAT_SQL, String.class, meetingId).stream()
+                .findFirst()
+                .map(MeetingStatusEnum::valueOf);
+    }
+
+    public void releaseSeat(Long meetingId) {
+        jdbcTemplate.update(RELEASE_SEAT_SQL, meetingId);
+    }
+
+    /* 최대 count 자리 확보 : 확보한 자리 수 반환 (OPEN 이 아니거나 자리가 없으면 0) */
+    public int reserveSeats(Long meetingId, int count) {
+        return jdbcTemplate.queryForList(RESERVE_SEATS_SQL, Integer.class, count, meetingId).stream()
+                .findFirst()
+                .orElse(0);
+    }
+
+    public List<Long> reserveSeatInEach(Collection<Long> meetingIds) {
+        return namedParameterJdbcTemplate.queryForList(RESERVE_SEAT_IN_EACH_SQL, Map.of("meetingIds", meetingIds), Long.class);
+    }
+
+    public void releaseSeats(Long meetingId, int count) {
+        jdbcTemplate.update(RELEASE_SEATS_SQL, count, meetingId);
+    }
+}
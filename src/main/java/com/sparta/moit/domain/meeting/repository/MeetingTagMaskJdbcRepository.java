@@ -0,0 +1,132 @@
+package com.sparta.moit.domain.meeting.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 기술/경력 비트마스크(skill_mask, career_mask) 채우기 / 기존 저장 형식 정리
+ * id n -> n-1 번째 비트 (TagMask 와 동일)
+ */
+@Repository
+@RequiredArgsConstructor
+public class MeetingTagMaskJdbcRepository {
+    /*
+     * bigint[], jsonb 목록, 연결 테이블(meeting_skill / meeting_career)의 합집합으로 계산한 마스크
+     * 등록/수정 경로에 따라 한 형식만 기록되어 나머지가 낡았을 수 있으므로 요청 값으로 기록된 마스크가 없을 때만 사용
+     * (기존 형식을 정리하기 전에 태그가 빠지지 않도록 합집합, UPDATE 의 SET 은 변경 전 값을 읽음)
+     */
+    private static final String SKILL_UNION_MASK =
+            "COALESCE(( " +
+                    "   SELECT bit_or(1::bigint << (CAST(t.id AS int) - 1)) FROM ( " +
+                    "      SELECT unnest(m.skill_id_list) AS id " +
+                    "      UNION SELECT CAST(j->>'skillId' AS bigint) " +
+                    "         FROM jsonb_array_elements(CASE WHEN jsonb_typeof(m.skill_list) = 'array' THEN m.skill_list ELSE '[]'::jsonb END) AS j " +
+                    "      UNION SELECT ms.skill_id FROM meeting_skill ms WHERE ms.meeting_id = m.id " +
+                    "   ) t WHERE t.id BETWEEN 1 AND 63), 0)";
+    private static final String CAREER_UNION_MASK =
+            "COALESCE(( " +
+                    "   SELECT bit_or(1::bigint << (CAST(t.id AS int) - 1)) FROM ( " +
+                    "      SELECT unnest(m.career_id_list) AS id " +
+                    "      UNION SELECT CAST(j->>'careerId' AS bigint) " +
+                    "         FROM jsonb_array_elements(CASE WHEN jsonb_typeof(m.career_list) = 'array' THEN m.career_list ELSE '[]'::jsonb END) AS j " +
+                    "      UNION SELECT mc.career_id FROM meeting_career mc WHERE mc.meeting_id = m.id " +
+                    "   ) t WHERE t.id BETWEEN 1 AND 63), 0)";
+
+    /* 기존 형식이 모두 비어 있음 (정리가 끝났거나 태그가 없는 모임) */
+    private static final String SKILL_LEGACY_EMPTY =
+            "m.skill_id_list IS NULL AND m.skill_list IS NULL " +
+                    "AND NOT EXISTS (SELECT 1 FROM meeting_skill ms WHERE ms.meeting_id = m.id)";
+    private static final String CAREER_LEGACY_EMPTY =
+            "m.career_id_list IS NULL AND m.career_list IS NULL " +
+                    "AND NOT EXISTS (SELECT 1 FROM meeting_career mc WHERE mc.meeting_id = m.id)";
+
+    /* keyset 순서로 진행하므로 SKIP LOCKED 없이 잠금 대기 (건너뛴 행이 체크포인트 뒤로 밀리지 않도록) */
+    private static final String CHUNK_CTE =
+            "WITH batch AS ( " +
+                    "   SELECT id FROM meeting WHERE id > ? ORDER BY id LIMIT ? FOR UPDATE " +
+                    ") ";
+
+    /* 기동 시 채우기 : 마스크가 비어 있는 모임을 id 순으로 최대 chunkSize 건 처리, 다른 서버가 처리 중인 행은 건너뜀 (SKIP LOCKED) */
+    private static final String FILL_MASK_SQL =
+            "UPDATE meeting m SET " +
+                    "   skill_mask = " + SKILL_UNION_MASK + ", " +
+                    "   career_mask = " + CAREER_UNION_MASK + ", " +
+                    "   tag_mask_from_request = false " +
+                    "WHERE m.id IN ( " +
+                    "   SELECT id FROM meeting " +
+                    "   WHERE skill_mask IS NULL OR career_mask IS NULL " +
+                    "   ORDER BY id " +
+                    "   LIMIT ? " +
+                    "   FOR UPDATE SKIP LOCKED " +
+                    ")";
+
+    /*
+     * 마이그레이션 (수렴) : id 가 afterId 이후인 모임 chunkSize 건의 마스크를 하나로 수렴
+     * 1. 등록/수정 요청 값으로 기록된 마스크(tag_mask_from_request)는 그대로 사용
+     * 2. 기존 형식이 모두 비어 있으면 (정리 이후 다시 실행한 경우) 마스크 유지
+     * 3. 그 외 (비어 있거나 기동 시 채운 마스크) 는 기존 형식의 합집합으로 다시 계산
+     */
+    private static final String CONVERGE_CHUNK_SQL =
+            CHUNK_CTE +
+                    "UPDATE meeting m SET " +
+                    "   skill_mask = CASE WHEN m.tag_mask_from_request AND m.skill_mask IS NOT NULL THEN m.skill_mask " +
+                    "      WHEN " + SKILL_LEGACY_EMPTY + " THEN COALESCE(m.skill_mask, 0) " +
+                    "      ELSE " + SKILL_UNION_MASK + " END, " +
+                    "   career_mask = CASE WHEN m.tag_mask_from_request AND m.career_mask IS NOT NULL THEN m.career_mask " +
+                    "      WHEN " + CAREER_LEGACY_EMPTY + " THEN COALESCE(m.career_mask, 0) " +
+                    "      ELSE " + CAREER_UNION_MASK + " END " +
+                    "FROM batch " +
+                    "WHERE m.id = batch.id " +
+                    "RETURNING m.id";
+
+    /*
+     * 마이그레이션 (정리) : 수렴이 끝난 뒤 id 가 afterId 이후인 모임 chunkSize 건의 jsonb, bigint[] 삭제
+     * 수렴 이후 등록/수정된 모임은 요청 값으로 마스크가 기록되므로 그대로 두고, 비어 있는 마스크만 합집합으로 채움
+     */
+    private static final String CLEAR_LEGACY_CHUNK_SQL =
+            CHUNK_CTE +
+                    "UPDATE meeting m SET " +
+                    "   skill_mask = COALESCE(m.skill_mask, " + SKILL_UNION_MASK + "), " +
+                    "   career_mask = COALESCE(m.career_mask, " + CAREER_UNION_MASK + "), " +
+                    "   skill_list = NULL, career_list = NULL, skill_id_list = NULL, career_id_list = NULL " +
+                    "FROM batch " +
+                    "WHERE m.id = batch.id " +
+                    "RETURNING m.id";
+    private static final String DELETE_MEETING_SKILL_SQL = "DELETE FROM meeting_skill WHERE meeting_id IN (:meetingIds)";
+    private static final String DELETE_MEETING_CAREER_SQL = "DELETE FROM meeting_career WHERE meeting_id IN (:meetingIds)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /* 처리한 모임 수 반환 */
+    public int fillMissingMasks(int chunkSize) {
+        return jdbcTemplate.update(FILL_MASK_SQL, chunkSize);
+    }
+
+    /* 처리한 모임 id 반환 (순서 보장 없음) */
+    public List<Long> convergeChunk(long afterId, int chunkSize) {
+        return jdbcTemplate.queryForList(CONVERGE_CHUNK_SQL, Long.class, afterId, chunkSize);
+    }
+
+    /* 처리한 모임 id 반환 (순서 보장 없음), 연결 테이블 데이터도 같은 트랜잭션에서 삭제 */
+    public List<Long> clearLegacyChunk(long afterId, int chunkSize) {
+        List<Long> ids = jdbcTemplate.queryForList(CLEAR_LEGACY_CHUNK_SQL, Long.class, afterId, chunkSize);
+        if (!ids.isEmpty()) {
+            Map<String, Collection<Long>> params = Map.of("meetingIds", ids);
+            namedParameterJdbcTemplate.update(DELETE_MEETING_SKILL_SQL, params);
+            namedParameterJdbcTemplate.update(DELETE_MEETING_CAREER_SQL, params);
+        }
+        return ids;
+    }
+
+    public long countAfter(long afterId) {
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM meeting WHERE id > ?", Long.class, afterId);
+        return count == null ? 0 : count;
+    }
+}
@@ -1,31 +1,58 @@
 package com.sparta.moit.domain.meeting.scheduler;
 
-import com.sparta.moit.domain.meeting.entity.Meeting;
-import com.sparta.moit.domain.meeting.repository.MeetingRepository;
-import com.sparta.moit.domain.meeting.service.MeetingService;
+import com.sparta.moit.domain.meeting.event.MeetingChangedEvent;
+import com.sparta.moit.domain.meeting.repository.MeetingStatusJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j(topic = "Scheduler")
 @Component
 @RequiredArgsConstructor
 public class Scheduler {
-    private final MeetingService meetingService;
-    private final MeetingRepository meetingRepository;
+    private final MeetingStatusJdbcRepository meetingStatusJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Value("${meeting.completion.chunk-size:500}")
+    private int chunkSize;
+
+    /* 서버 중단 중 지나간 시각의 모임도 완료 처리 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUpMeetingStatus() {
+        updateMeetingStatus();
+    }
+
+    /*
+     * 종료된 모임 일괄 완료 처리
+     * 1. 종료 시각이 현재 이전인 OPEN / FULL 모임을 chunkSize 단위로 UPDATE (chunk 마다 커밋)
+     * 2. 변경된 모임 id 로 완료 이벤트 발행 (커밋 이후 인덱스, 캐시에서 제거)
+     * 3. chunkSize 보다 적게 변경되면 종료
+     */
     @Scheduled(cron = "0 0 * * * *")/* 매시각 0분 */
-    @Transactional
     public void updateMeetingStatus() {
-        /* STATUS = COMPLETE or DELETE 가 아닌 meetings 만 조회 */
-        List<Meeting> meetingList = meetingRepository.findAllIncompleteMeetingsForHour();
-        /* meeting  */
-        for (Meeting meeting : meetingList) {
-            meeting.completeStatus();
-        }
+        LocalDateTime now = LocalDateTime.now().plusHours(9);
+
+        int total = 0;
+        List<Long> completedIds;
+        do {
+            completedIds = transactionTemplate.execute(status -> {
+                List<Long> ids = meetingStatusJdbcRepository.completeEndedBefore(now, chunkSize);
+                ids.forEach(id -> eventPublisher.publishEvent(MeetingChangedEvent.completed(id)));
+                return ids;
+            });
+            total += completedIds.size();
+        } while (completedIds.size() >= chunkSize);
+
+        log.info("모임 완료 처리 : " + total + "건");
     }
 }
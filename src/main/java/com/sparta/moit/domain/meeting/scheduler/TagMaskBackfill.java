@@ -0,0 +1,43 @@
+package com.sparta.moit.domain.meeting.scheduler;
+
+import com.sparta.moit.domain.meeting.index.MeetingGeoIndex;
+import com.sparta.moit.domain.meeting.repository.MeetingTagMaskJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * 기존 모임의 기술/경력 비트마스크 채우기
+ * 1. 서버 기동 직후 마스크가 비어 있는 모임을 chunkSize 단위로 UPDATE (chunk 마다 커밋)
+ * 2. 채운 모임이 있으면 위치 인덱스를 다시 적재 (인덱스 필터도 마스크를 사용)
+ */
+@Slf4j(topic = "TagMaskBackfill")
+@Component
+@RequiredArgsConstructor
+public class TagMaskBackfill {
+    private final MeetingTagMaskJdbcRepository meetingTagMaskJdbcRepository;
+    private final MeetingGeoIndex meetingGeoIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${meeting.tag-mask.backfill-chunk-size:500}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int total = 0;
+        Integer updated;
+        do {
+            updated = transactionTemplate.execute(status -> meetingTagMaskJdbcRepository.fillMissingMasks(chunkSize));
+            total += updated;
+        } while (updated >= chunkSize);
+
+        if (total > 0) {
+            log.info("기술/경력 비트마스크 채우기 : " + total + "건");
+            meetingGeoIndex.rebuild();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.sparta.moit.domain.meeting.search;
+
+import com.sparta.moit.global.util.KoreanBigramTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*
+ * 전문 검색 인덱스 준비 (meeting.search.mode=fulltext)
+ * 1. search_document 로부터 자동 생성되는 search_vector(tsvector) 컬럼과 GIN 인덱스 생성 (ddl-auto 로는 생성 불가)
+ * 2. search_document 가 비어 있는 기존 모임을 BATCH_SIZE 단위로 채움
+ * 이후 등록/수정 시에는 Meeting 엔티티가 search_document 를 갱신하고 search_vector 는 DB 가 다시 계산
+ */
+@Slf4j(topic = "MeetingSearchIndexInitializer")
+@Component
+@ConditionalOnProperty(name = "meeting.search.mode", havingValue = "fulltext")
+@RequiredArgsConstructor
+public class MeetingSearchIndexInitializer {
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        jdbcTemplate.execute("ALTER TABLE meeting ADD COLUMN IF NOT EXISTS search_vector tsvector " +
+                "GENERATED ALWAYS AS (to_tsvector('simple', coalesce(search_document, ''))) STORED");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_meeting_search_vector ON meeting USING GIN (search_vector)");
+
+        int total = 0;
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(
+                    "SELECT id, meeting_name, location_address, contents FROM meeting " +
+                            "WHERE search_document IS NULL ORDER BY id LIMIT ?",
+                    (rs, rowNum) -> new Object[]{
+                            rs.getLong("id"),
+                            KoreanBigramTokenizer.toDocument(
+                                    rs.getString("meeting_name"),
+                                    rs.getString("location_address"),
+                                    rs.getString("contents"))
+                    },
+                    BATCH_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+            jdbcTemplate.batchUpdate("UPDATE meeting SET search_document = ? WHERE id = ?",
+                    rows.stream().map(row -> new Object[]{row[1], row[0]}).toList());
+            total += rows.size();
+        }
+        log.info("전문 검색 인덱스 준비 완료, search_document 채운 모임 : " + total + "건");
+    }
+}
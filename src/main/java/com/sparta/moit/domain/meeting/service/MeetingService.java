@@ -3,6 +3,7 @@ package com.sparta.moit.domain.meeting.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.sparta.moit.domain.meeting.dto.*;
 import com.sparta.moit.domain.member.entity.Member;
+import com.sparta.moit.global.util.pagination.CursorSliceResponseDto;
 import org.springframework.data.domain.Slice;
 
 import java.util.List;
@@ -22,6 +23,12 @@ public interface MeetingService {
 
     Slice<GetMeetingArrayResponseDto> getMeetingListPostgreArray(int page, Double locationLat, Double locationLng, String skillIdsStr, String careerIdsStr);
 
+    CursorSliceResponseDto<GetMeetingResponseDto> getMeetingCursorPostgreJson(String cursor, Double locationLat, Double locationLng, String skillIdsStr, String careerIdsStr);
+
+    CursorSliceResponseDto<GetMeetingArrayResponseDto> getMeetingCursorPostgreArray(String cursor, Double locationLat, Double locationLng, String skillIdsStr, String careerIdsStr);
+
+    CursorSliceResponseDto<GetMeetingResponseDto> getMeetingCursorList(String cursor, Double locationLat, Double locationLng, List<Long> skillId, List<Long> careerId);
+
     Slice<GetMeetingResponseDto> getMeetingList(int page, Double locationLat, Double locationLng, List<Long> skillId, List<Long> careerId);
 
     List<GetMeetingResponseDto> getMeetingListNativeQuery(int page, Double locationLat, Double locationLng, List<Long> skillId, List<Long> careerId);
@@ -32,9 +39,17 @@ public interface MeetingService {
 
     Slice<GetMeetingArrayResponseDto> getMeetingListBySearch(String keyword, int page);
 
+    CursorSliceResponseDto<GetMeetingArrayResponseDto> getMeetingListBySearchCursor(String keyword, String cursor);
+
     Long enterMeeting(Member member, Long meetingId);
 
     void leaveMeeting(Member member, Long meetingId);
 
+    List<MembershipResultDto> addMeetingMembers(Member creator, Long meetingId, List<Long> memberIds);
+
+    List<MembershipResultDto> removeMeetingMembers(Member creator, Long meetingId, List<Long> memberIds);
+
+    List<MembershipResultDto> enterMeetings(Member member, List<Long> meetingIds);
+
     List<GetPopularResponseDto> getPopularMeeting();
 }
@@ -1,20 +1,36 @@
 package com.sparta.moit.domain.meeting.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.sparta.moit.domain.bookmark.repository.BookMarkRepository;
+import com.sparta.moit.domain.meeting.cache.MeetingDetailCache;
+import com.sparta.moit.domain.meeting.cache.MeetingFeedTileCache;
 import com.sparta.moit.domain.meeting.dto.*;
 import com.sparta.moit.domain.meeting.entity.*;
+import com.sparta.moit.domain.meeting.event.MeetingChangeType;
+import com.sparta.moit.domain.meeting.event.MeetingChangedEvent;
+import com.sparta.moit.domain.meeting.event.MeetingMemberChangedEvent;
+import com.sparta.moit.domain.meeting.index.MeetingGeoHit;
+import com.sparta.moit.domain.meeting.index.MeetingGeoIndex;
+import com.sparta.moit.domain.meeting.popular.PopularMeetingRanking;
 import com.sparta.moit.domain.meeting.repository.*;
+import com.sparta.moit.domain.meeting.tag.MeetingTagReadMode;
 import com.sparta.moit.domain.member.entity.Member;
 import com.sparta.moit.domain.member.repository.MemberRepository;
 import com.sparta.moit.global.common.dto.AddressResponseDto;
 import com.sparta.moit.global.error.CustomException;
 import com.sparta.moit.global.error.ErrorCode;
 import com.sparta.moit.global.util.AddressUtil;
+import com.sparta.moit.global.util.KoreanBigramTokenizer;
+import com.sparta.moit.global.util.TagMask;
+import com.sparta.moit.global.util.pagination.CursorSliceResponseDto;
+import com.sparta.moit.global.util.pagination.KeysetCursor;
 import com.sparta.moit.global.util.pagination.ListPaginator;
 import com.sparta.moit.global.util.pagination.Paginator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -22,9 +38,14 @@ import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j(topic = "Meeting Service Log")
 @Service
@@ -34,7 +55,21 @@ public class MeetingServiceImpl implements MeetingService {
     private final MemberRepository memberRepository;
     private final MeetingMemberRepository meetingMemberRepository;
     private final AddressUtil addressUtil;
-    private final BookMarkRepository bookMarkRepository;
+    private final MeetingGeoIndex meetingGeoIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PopularMeetingRanking popularMeetingRanking;
+    private final MeetingStatusJdbcRepository meetingStatusJdbcRepository;
+    private final MeetingMemberJdbcRepository meetingMemberJdbcRepository;
+    private final MeetingDetailCache meetingDetailCache;
+    private final MeetingFeedTileCache meetingFeedTileCache;
+    private final MeetingTagReadMode meetingTagReadMode;
+
+    @Value("${meeting.search.mode:like}")
+    private String searchMode;
+
+    private static final double NEARBY_RADIUS_METER = 5000;
+    private static final int MEMBERSHIP_BATCH_MAX_SIZE = 500;
+    private static final int FEED_PAGE_SIZE = 10;
 
     private final Paginator<Meeting> paginator = new ListPaginator<>();
 
@@ -46,6 +81,7 @@ public class MeetingServiceImpl implements MeetingService {
         Meeting savedMeeting = meetingRepository.save(meeting);
 
         saveMeetingMember(member, savedMeeting);
+        eventPublisher.publishEvent(MeetingChangedEvent.of(savedMeeting, MeetingChangeType.CREATED));
 
         return savedMeeting.getId();
     }
@@ -57,6 +93,7 @@ public class MeetingServiceImpl implements MeetingService {
         Meeting savedMeeting = meetingRepository.save(meeting);
 
         saveMeetingMember(member, savedMeeting);
+        eventPublisher.publishEvent(MeetingChangedEvent.of(savedMeeting, MeetingChangeType.CREATED));
 
         return savedMeeting.getId();
     }
@@ -78,6 +115,7 @@ public class MeetingServiceImpl implements MeetingService {
         }
 
         meeting.updateMeeting(requestDto);
+        eventPublisher.publishEvent(MeetingChangedEvent.of(meeting, MeetingChangeType.UPDATED));
         return meetingId;
     }
     /*모임 수정*/
@@ -97,6 +135,7 @@ public class MeetingServiceImpl implements MeetingService {
         }
 
         meeting.updateMeetingArray(requestDto);
+        eventPublisher.publishEvent(MeetingChangedEvent.of(meeting, MeetingChangeType.UPDATED));
 
         return meetingId;
     }
@@ -109,7 +148,9 @@ public class MeetingServiceImpl implements MeetingService {
         Meeting meeting = meetingRepository.findByIdAndCreator(meetingId, member)
                 .orElseThrow(() -> new CustomException(ErrorCode.AUTHORITY_ACCESS));
 
+        MeetingStatusEnum previousStatus = meeting.getStatus();
         meeting.deleteStatus();
+        eventPublisher.publishEvent(MeetingChangedEvent.deleted(meeting, previousStatus));
 
     }
 
@@ -125,18 +166,26 @@ public class MeetingServiceImpl implements MeetingService {
         int pageSize = 10;
         int offset = Math.max(page - 1, 0) * pageSize;
 
-        List<Meeting> meetingList = meetingRepository.findMeetingST_Dwithin(
-                  locationLng
-                , locationLat
-                , skillIdsStr
-                , careerIdsStr
-                , pageSize + extraItem
-                , offset
-        );
+        /* read-mode=mask 이면 jsonb 대신 비트마스크로 필터 (조건 동일) */
+        List<Meeting> meetingList = meetingTagReadMode.isMask()
+                ? meetingRepository.findMeetingST_Dwithin_array(
+                        locationLng
+                        , locationLat
+                        , parseMask(skillIdsStr)
+                        , parseMask(careerIdsStr)
+                        , pageSize + extraItem
+                        , offset)
+                : meetingRepository.findMeetingST_Dwithin(
+                        locationLng
+                        , locationLat
+                        , skillIdsStr
+                        , careerIdsStr
+                        , pageSize + extraItem
+                        , offset);
 
         Pageable pageable = PageRequest.of(Math.max(page - 1, 0), pageSize);
         boolean hasNext = hasNextPage(meetingList, pageable.getPageSize());
-        List<GetMeetingResponseDto> sliceList = meetingList.stream().limit(pageSize).map(GetMeetingResponseDto::fromEntity).toList();
+        List<GetMeetingResponseDto> sliceList = meetingList.stream().limit(pageSize).map(this::toResponseDto).toList();
         return new SliceImpl<>(sliceList, pageable, hasNext);
     }
 
@@ -147,38 +196,180 @@ public class MeetingServiceImpl implements MeetingService {
             , Double locationLng
             , String skillIdsStr
             , String careerIdsStr
+    ) {
+        /* 좌표를 geohash 타일로 스냅하여 (타일, 필터, 페이지) 단위로 캐싱 */
+        return meetingFeedTileCache.get(page, locationLat, locationLng, skillIdsStr, careerIdsStr,
+                (tileLat, tileLng) -> loadMeetingListPostgreArray(page, tileLat, tileLng, skillIdsStr, careerIdsStr));
+    }
+
+    private Slice<GetMeetingArrayResponseDto> loadMeetingListPostgreArray(
+            int page
+            , Double locationLat
+            , Double locationLng
+            , String skillIdsStr
+            , String careerIdsStr
     ) {
         int extraItem = 1; // pagination 을 위한 추가 요청
         int pageSize = 10;
         int offset = Math.max(page - 1, 0) * pageSize;
 
+        /* 위치 인덱스가 준비된 경우 인덱스에서 id 를 조회하고, DB 는 id 로만 조회 */
+        if (meetingGeoIndex.isReady()) {
+            return getMeetingListFromGeoIndex(page, locationLat, locationLng, skillIdsStr, careerIdsStr, pageSize, offset);
+        }
+
         List<Meeting> meetingList = meetingRepository.findMeetingST_Dwithin_array(
                 locationLng
                 , locationLat
-                , skillIdsStr
-                , careerIdsStr
+                , parseMask(skillIdsStr)
+                , parseMask(careerIdsStr)
                 , pageSize + extraItem
                 , offset
         );
 
         Pageable pageable = PageRequest.of(Math.max(page - 1, 0), pageSize);
         boolean hasNext = hasNextPage(meetingList, pageable.getPageSize());
-        List<GetMeetingArrayResponseDto> sliceList = meetingList.stream().limit(pageSize).map(GetMeetingArrayResponseDto::fromEntity).toList();
+        List<GetMeetingArrayResponseDto> sliceList = meetingList.stream().limit(pageSize).map(this::toArrayResponseDto).toList();
+        return new SliceImpl<>(sliceList, pageable, hasNext);
+    }
+
+    private Slice<GetMeetingArrayResponseDto> getMeetingListFromGeoIndex(
+            int page
+            , Double locationLat
+            , Double locationLng
+            , String skillIdsStr
+            , String careerIdsStr
+            , int pageSize
+            , int offset
+    ) {
+        List<MeetingGeoHit> hits = meetingGeoIndex.findNearest(
+                locationLat
+                , locationLng
+                , NEARBY_RADIUS_METER
+                , parseMask(skillIdsStr)
+                , parseMask(careerIdsStr)
+                , offset
+                , pageSize + 1
+        );
+
+        Pageable pageable = PageRequest.of(Math.max(page - 1, 0), pageSize);
+        boolean hasNext = hits.size() > pageSize;
+        List<Long> meetingIds = hits.stream().limit(pageSize).map(MeetingGeoHit::getMeetingId).toList();
+        List<GetMeetingArrayResponseDto> sliceList = meetingRepository.findAllByIdInOrder(meetingIds)
+                .stream().map(this::toArrayResponseDto).toList();
         return new SliceImpl<>(sliceList, pageable, hasNext);
     }
 
 
+    /* 모임 조회 (커서, jsonb) */
+    @Override
+    public CursorSliceResponseDto<GetMeetingResponseDto> getMeetingCursorPostgreJson(
+            String cursor
+            , Double locationLat
+            , Double locationLng
+            , String skillIdsStr
+            , String careerIdsStr
+    ) {
+        KeysetCursor distanceCursor = KeysetCursor.decode(cursor);
+
+        List<MeetingCursorRow> rows = meetingTagReadMode.isMask()
+                ? meetingRepository.findMeetingST_Dwithin_array_cursor(
+                        locationLng
+                        , locationLat
+                        , parseMask(skillIdsStr)
+                        , parseMask(careerIdsStr)
+                        , distanceCursor.getLastValue()
+                        , distanceCursor.getLastId()
+                        , FEED_PAGE_SIZE + 1)
+                : meetingRepository.findMeetingST_Dwithin_cursor(
+                        locationLng
+                        , locationLat
+                        , skillIdsStr
+                        , careerIdsStr
+                        , distanceCursor.getLastValue()
+                        , distanceCursor.getLastId()
+                        , FEED_PAGE_SIZE + 1);
+
+        return toCursorSlice(rows, MeetingCursorRow::getId, MeetingCursorRow::getDist, this::toResponseDto);
+    }
+
+    /* 모임 조회 (커서, bigint[]) */
+    @Override
+    public CursorSliceResponseDto<GetMeetingArrayResponseDto> getMeetingCursorPostgreArray(
+            String cursor
+            , Double locationLat
+            , Double locationLng
+            , String skillIdsStr
+            , String careerIdsStr
+    ) {
+        KeysetCursor distanceCursor = KeysetCursor.decode(cursor);
+
+        /* 위치 인덱스가 준비된 경우 인덱스에서 id 를 조회 */
+        if (meetingGeoIndex.isReady()) {
+            List<MeetingGeoHit> hits = meetingGeoIndex.findNearestAfter(
+                    locationLat
+                    , locationLng
+                    , NEARBY_RADIUS_METER
+                    , parseMask(skillIdsStr)
+                    , parseMask(careerIdsStr)
+                    , distanceCursor.getLastValue()
+                    , distanceCursor.getLastId()
+                    , FEED_PAGE_SIZE + 1
+            );
+            return toCursorSlice(hits, MeetingGeoHit::getMeetingId, MeetingGeoHit::getDistance, this::toArrayResponseDto);
+        }
+
+        List<MeetingCursorRow> rows = meetingRepository.findMeetingST_Dwithin_array_cursor(
+                locationLng
+                , locationLat
+                , parseMask(skillIdsStr)
+                , parseMask(careerIdsStr)
+                , distanceCursor.getLastValue()
+                , distanceCursor.getLastId()
+                , FEED_PAGE_SIZE + 1
+        );
+
+        return toCursorSlice(rows, MeetingCursorRow::getId, MeetingCursorRow::getDist, this::toArrayResponseDto);
+    }
+
+    /* 모임 조회 (커서, QueryDSL) */
+    @Override
+    public CursorSliceResponseDto<GetMeetingResponseDto> getMeetingCursorList(String cursor, Double locationLat, Double locationLng, List<Long> skillId, List<Long> careerId) {
+        KeysetCursor distanceCursor = KeysetCursor.decode(cursor);
+
+        List<MeetingCursorRow> rows = meetingRepository.getMeetingCursorRows(
+                locationLat
+                , locationLng
+                , NEARBY_RADIUS_METER
+                , skillId
+                , careerId
+                , distanceCursor.getLastValue()
+                , distanceCursor.getLastId()
+                , FEED_PAGE_SIZE + 1
+        );
+
+        return toCursorSlice(rows, MeetingCursorRow::getId, MeetingCursorRow::getDist, this::toResponseDto);
+    }
+
     /*모임 조회*/
     @Override
     public Slice<GetMeetingResponseDto> getMeetingList(int page, Double locationLat, Double locationLng, List<Long> skillId, List<Long> careerId) {
         Pageable pageable = PageRequest.of(Math.max(page - 1, 0), 10);
         Slice<Meeting> sliceList = meetingRepository.getMeetingSlice(locationLat, locationLng, skillId, careerId, pageable);
-        return sliceList.map(GetMeetingResponseDto::fromEntity);
+        return sliceList.map(this::toResponseDto);
     }
 
     /* 모임 조회 (NativeQuery) */
     @Override
     public List<GetMeetingResponseDto> getMeetingListNativeQuery(int page, Double locationLat, Double locationLng, List<Long> skillId, List<Long> careerId) {
+        /* read-mode=mask 이면 연결 테이블 대신 비트마스크로 필터 */
+        if (meetingTagReadMode.isMask() && (skillId != null || careerId != null)) {
+            Long skillMask = skillId == null ? null : TagMask.of(skillId);
+            Long careerMask = careerId == null ? null : TagMask.of(careerId);
+            return meetingRepository.getMeetingsWithTagMask(locationLat, locationLng, skillMask, careerMask, 16, page)
+                    .stream().map(this::toResponseDto).toList();
+        }
+
         List<Meeting> meetingList;
         if (skillId != null) {
             if (careerId != null) {
@@ -197,7 +388,7 @@ public class MeetingServiceImpl implements MeetingService {
                 meetingList = meetingRepository.getNearestMeetings(locationLat, locationLng, 16, page);
             }
         }
-        return meetingList.stream().map(GetMeetingResponseDto::fromEntity).toList();
+        return meetingList.stream().map(this::toResponseDto).toList();
     }
 
 
@@ -205,20 +396,15 @@ public class MeetingServiceImpl implements MeetingService {
     @Override
     public GetMeetingDetailResponseDto getMeetingDetail(Long meetingId, Optional<Member> member) {
 
-        Meeting meeting = meetingRepository.findById(meetingId)
-                .orElseThrow(() -> new CustomException(ErrorCode.MEETING_NOT_FOUND));
-
-        if (meeting.getStatus().equals(MeetingStatusEnum.DELETE)) {
-            throw new CustomException(ErrorCode.MEETING_NOT_FOUND);
-        }
-
+        /* 비로그인 : 짧은 TTL 캐시 */
         if (member.isEmpty()) {
-            return GetMeetingDetailResponseDto.fromEntity(meeting, false, false);
+            return meetingDetailCache.getAnonymous(meetingId);
         }
 
-        boolean isJoin = meetingMemberRepository.existsByMemberIdAndMeetingId(member.get().getId(), meetingId);
-        boolean isbookMarked = bookMarkRepository.existsByMemberIdAndMeetingId(member.get().getId(), meetingId);
-        return GetMeetingDetailResponseDto.fromEntity(meeting, isJoin, isbookMarked);
+        /* 로그인 : 모임, 작성자, 참가/북마크 여부를 한 번에 조회 */
+        return meetingRepository.findDetailRow(meetingId, member.get().getId())
+                .map(row -> GetMeetingDetailResponseDto.fromRow(row, meetingTagReadMode.isMask()))
+                .orElseThrow(() -> new CustomException(ErrorCode.MEETING_NOT_FOUND));
     }
 
     /*주소별 모임 조회*/
@@ -226,7 +412,7 @@ public class MeetingServiceImpl implements MeetingService {
     public List<GetMeetingResponseDto> getMeetingListByAddress(String firstRegion, String secondRegion, int page) throws JsonProcessingException {
         AddressResponseDto address = addressUtil.searchAddress(firstRegion, secondRegion);
         List<Meeting> meetingList = meetingRepository.getNearestMeetings(Double.parseDouble(address.getLat()), Double.parseDouble(address.getLng()), 16, page);
-        return meetingList.stream().map(GetMeetingResponseDto::fromEntity).toList();
+        return meetingList.stream().map(this::toResponseDto).toList();
     }
 
     /* 모임 검색 */
@@ -234,14 +420,37 @@ public class MeetingServiceImpl implements MeetingService {
     public Slice<GetMeetingArrayResponseDto> getMeetingListBySearch(String keyword, int page) {
         Pageable pageable = PageRequest.of(Math.max(page - 1, 0), 10);
         Slice<Meeting> meetingList = meetingRepository.findByKeyword(keyword, pageable);
-        return meetingList.map(GetMeetingArrayResponseDto::fromEntity);
+        return meetingList.map(this::toArrayResponseDto);
+    }
+
+    /*
+     * 모임 검색 (커서)
+     * fulltext : search_vector GIN 인덱스 전문 검색, 관련도순
+     * like : 기존 LIKE 검색, 최신 등록순
+     */
+    @Override
+    public CursorSliceResponseDto<GetMeetingArrayResponseDto> getMeetingListBySearchCursor(String keyword, String cursor) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor, KeysetCursor.DESC_FIRST);
+
+        String tsQuery = KoreanBigramTokenizer.toTsQuery(keyword);
+        if ("fulltext".equals(searchMode) && tsQuery != null) {
+            List<MeetingSearchRow> rows = meetingRepository.searchFullText(
+                    tsQuery
+                    , keysetCursor.getLastValue()
+                    , keysetCursor.getLastId()
+                    , FEED_PAGE_SIZE + 1
+            );
+            return toCursorSlice(rows, MeetingSearchRow::getId, MeetingSearchRow::getScore, this::toArrayResponseDto);
+        }
+
+        List<Long> ids = meetingRepository.findIdsByKeywordBefore(keyword, keysetCursor.getLastId(), FEED_PAGE_SIZE + 1);
+        return toCursorSlice(ids, Function.identity(), id -> 0D, this::toArrayResponseDto);
     }
 
     /* 인기 모임 top 5 */
     @Override
     public List<GetPopularResponseDto> getPopularMeeting() {
-        List<Meeting> meetingList = meetingRepository.getPopularMeetings();
-        return meetingList.stream().map(GetPopularResponseDto::fromEntity).toList();
+        return popularMeetingRanking.getTop();
     }
 
     /*모임 참가*/
@@ -249,44 +458,37 @@ public class MeetingServiceImpl implements MeetingService {
     @Transactional
     public Long enterMeeting(Member member, Long meetingId) {
 
-        Meeting meeting = meetingRepository.findById(meetingId)
-                .orElseThrow(() -> new CustomException(ErrorCode.MEETING_NOT_FOUND));
-
         /*중복 참가 여부 확인*/
         boolean isMember = meetingMemberRepository.existsByMemberIdAndMeetingId(member.getId(), meetingId);
         if (isMember) {
             throw new CustomException(ErrorCode.ALREADY_MEMBER);
         }
 
-        /* 현재 모임 참가 인원 수를 가져오기 */
-        Short registeredCount = meeting.getRegisteredCount();
-
-        /* 모임의 최대 인원 수를 가져오기 */
-        Short totalCount = meeting.getTotalCount();
-
-        /* 인원이 다 찼는지 확인 : 예외처리 */
-        if (registeredCount >= totalCount) {
-            throw new CustomException(ErrorCode.MEETING_FULL);
-        }
-
-        /*모임 엔티티의 등록된 참가자 수 업데이트*/
-        registeredCount = meeting.incrementRegisteredCount(); /*모임 참가자 수 증가*/
-
-        /* 인원이 다 찼는지 확인 */
-        if (Objects.equals(registeredCount, totalCount)) {
-            meeting.updateStatus();
+        /* 자리 확보 : 남은 자리가 있을 때만 참가 인원 증가 (마지막 자리면 FULL), 실패 시 원인 확인 */
+        if (meetingStatusJdbcRepository.reserveSeat(meetingId).isEmpty()) {
+            throw new CustomException(seatFailureOf(meetingRepository.findStatusById(meetingId).orElse(MeetingStatusEnum.DELETE)));
         }
 
+        /* 동시에 같은 회원이 참가하면 (member_id, meeting_id) 유니크 제약으로 실패, 자리 확보도 함께 롤백 (그 외 제약 위반은 그대로 전달) */
         MeetingMember meetingMember = MeetingMember.builder()
                 .member(member)
-                .meeting(meeting)
+                .meeting(meetingRepository.getReferenceById(meetingId))
                 .build();
-        meetingMemberRepository.save(meetingMember);
+        try {
+            meetingMemberRepository.saveAndFlush(meetingMember);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateMembership(e)) {
+                throw new CustomException(ErrorCode.ALREADY_MEMBER);
+            }
+            throw e;
+        }
+        eventPublisher.publishEvent(MeetingMemberChangedEvent.joined(member, meetingId));
         return meetingId;
     }
 
     /*모임 탈퇴*/
     @Override
+    @Transactional
     public void leaveMeeting(Member member, Long meetingId) {
 
         Member member1 = memberRepository.findById(member.getId())
@@ -303,9 +505,198 @@ public class MeetingServiceImpl implements MeetingService {
             throw new CustomException(ErrorCode.CREATOR_CAN_NOT_LEAVE);
         }
 
-        meeting.decrementRegisteredCount();
-
         meetingMemberRepository.delete(meetingMember);
+
+        /* 참가 인원 감소, FULL 이었으면 다시 OPEN */
+        meetingStatusJdbcRepository.releaseSeat(meetingId);
+        eventPublisher.publishEvent(MeetingMemberChangedEvent.left(member1, meetingId));
+    }
+
+    /*
+     * 모임 회원 일괄 추가 (모임 작성자)
+     * 1. 존재하지 않는 회원, 이미 참가한 회원을 각각 한 번의 조회로 제외
+     * 2. 남은 자리 수 만큼만 한 문장으로 확보, 요청 순서대로 자리를 배정하고 나머지는 MEETING_FULL (완료/삭제된 모임이면 MEETING_COMPLETE / MEETING_NOT_FOUND)
+     * 3. 자리를 배정받은 회원을 한 문장으로 저장, 동시에 먼저 참가한 회원은 ALREADY_MEMBER 로 처리하고 자리 반납
+     */
+    @Override
+    @Transactional
+    public List<MembershipResultDto> addMeetingMembers(Member creator, Long meetingId, List<Long> memberIds) {
+        meetingRepository.findByIdAndCreator(meetingId, creator)
+                .orElseThrow(() -> new CustomException(ErrorCode.AUTHORITY_ACCESS));
+
+        List<Long> requestedIds = distinctIds(memberIds);
+        Map<Long, Member> memberMap = memberRepository.findAllById(requestedIds).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        Set<Long> alreadyMemberIds = new HashSet<>(meetingMemberRepository.findMemberIdsByMeetingIdAndMemberIdIn(meetingId, requestedIds));
+
+        List<Long> candidateIds = requestedIds.stream()
+                .filter(memberMap::containsKey)
+                .filter(memberId -> !alreadyMemberIds.contains(memberId))
+                .toList();
+        int granted = candidateIds.isEmpty() ? 0 : meetingStatusJdbcRepository.reserveSeats(meetingId, candidateIds.size());
+        List<Long> seatedIds = candidateIds.subList(0, granted);
+        Set<Long> joinedIdSet = new HashSet<>();
+        if (!seatedIds.isEmpty()) {
+            joinedIdSet.addAll(meetingMemberJdbcRepository.insertMembers(meetingId, seatedIds));
+            int conflicted = seatedIds.size() - joinedIdSet.size();
+            if (conflicted > 0) {
+                meetingStatusJdbcRepository.releaseSeats(meetingId, conflicted);
+            }
+            seatedIds.stream()
+                    .filter(joinedIdSet::contains)
+                    .forEach(memberId -> eventPublisher.publishEvent(MeetingMemberChangedEvent.joined(memberMap.get(memberId), meetingId)));
+        }
+
+        Set<Long> seatedIdSet = new HashSet<>(seatedIds);
+        ErrorCode seatFailure = seatedIds.size() < candidateIds.size()
+                ? seatFailureOf(meetingRepository.findStatusById(meetingId).orElse(MeetingStatusEnum.DELETE))
+                : ErrorCode.MEETING_FULL;
+        return requestedIds.stream()
+                .map(memberId -> {
+                    if (!memberMap.containsKey(memberId)) {
+                        return MembershipResultDto.fail(meetingId, memberId, ErrorCode.NOT_EXIST_USER);
+                    }
+                    if (alreadyMemberIds.contains(memberId)) {
+                        return MembershipResultDto.fail(meetingId, memberId, ErrorCode.ALREADY_MEMBER);
+                    }
+                    if (!seatedIdSet.contains(memberId)) {
+                        return MembershipResultDto.fail(meetingId, memberId, seatFailure);
+                    }
+                    if (!joinedIdSet.contains(memberId)) {
+                        return MembershipResultDto.fail(meetingId, memberId, ErrorCode.ALREADY_MEMBER);
+                    }
+                    return MembershipResultDto.success(meetingId, memberId, MembershipResultDto.JOINED);
+                })
+                .toList();
+    }
+
+    /* 모임 회원 일괄 제외 (모임 작성자) : 참가 중인 회원만 한 문장으로 삭제하고 실제로 삭제된 수만큼 참가 인원을 한 번에 감소, 완료/삭제된 모임은 불가 */
+    @Override
+    @Transactional
+    public List<MembershipResultDto> removeMeetingMembers(Member creator, Long meetingId, List<Long> memberIds) {
+        Meeting meeting = meetingRepository.findByIdAndCreator(meetingId, creator)
+                .orElseThrow(() -> new CustomException(ErrorCode.AUTHORITY_ACCESS));
+        if (meeting.getStatus() == MeetingStatusEnum.DELETE) {
+            throw new CustomException(ErrorCode.MEETING_NOT_FOUND);
+        }
+        if (meeting.getStatus() == MeetingStatusEnum.COMPLETE) {
+            throw new CustomException(ErrorCode.MEETING_COMPLETE);
+        }
+
+        List<Long> requestedIds = distinctIds(memberIds);
+        Set<Long> currentMemberIds = new HashSet<>(meetingMemberRepository.findMemberIdsByMeetingIdAndMemberIdIn(meetingId, requestedIds));
+        List<Long> leftIds = requestedIds.stream()
+                .filter(currentMemberIds::contains)
+                .filter(memberId -> !memberId.equals(creator.getId()))
+                .toList();
+
+        Set<Long> deletedIds = new HashSet<>();
+        if (!leftIds.isEmpty()) {
+            deletedIds.addAll(meetingMemberJdbcRepository.deleteMembers(meetingId, leftIds));
+        }
+        if (!deletedIds.isEmpty()) {
+            meetingStatusJdbcRepository.releaseSeats(meetingId, deletedIds.size());
+            memberRepository.findAllById(deletedIds)
+                    .forEach(member -> eventPublisher.publishEvent(MeetingMemberChangedEvent.left(member, meetingId)));
+        }
+
+        return requestedIds.stream()
+                .map(memberId -> {
+                    if (memberId.equals(creator.getId())) {
+                        return MembershipResultDto.fail(meetingId, memberId, ErrorCode.CREATOR_CAN_NOT_LEAVE);
+                    }
+                    if (!deletedIds.contains(memberId)) {
+                        return MembershipResultDto.fail(meetingId, memberId, ErrorCode.NOT_MEETING_MEMBER);
+                    }
+                    return MembershipResultDto.success(meetingId, memberId, MembershipResultDto.LEFT);
+                })
+                .toList();
+    }
+
+    /*
+     * 여러 모임 일괄 참가
+     * 1. 존재하지 않는 모임, 이미 참가한 모임을 각각 한 번의 조회로 제외
+     * 2. 자리가 남은 모임만 한 문장으로 참가 인원 증가, 자리를 확보하지 못한 모임은 상태로 실패 원인 구분
+     * 3. 자리를 확보한 모임에 한 문장으로 저장, 동시에 먼저 참가한 모임은 ALREADY_MEMBER 로 처리하고 자리 반납
+     */
+    @Override
+    @Transactional
+    public List<MembershipResultDto> enterMeetings(Member member, List<Long> meetingIds) {
+        List<Long> requestedIds = distinctIds(meetingIds);
+        Set<Long> existingIds = new HashSet<>(meetingRepository.findIdsByIdInAndStatusNot(requestedIds, MeetingStatusEnum.DELETE));
+        Set<Long> alreadyJoinedIds = new HashSet<>(meetingMemberRepository.findMeetingIdsByMemberIdAndMeetingIdIn(member.getId(), requestedIds));
+
+        List<Long> candidateIds = requestedIds.stream()
+                .filter(existingIds::contains)
+                .filter(meetingId -> !alreadyJoinedIds.contains(meetingId))
+                .toList();
+        Set<Long> seatedIds = candidateIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(meetingStatusJdbcRepository.reserveSeatInEach(candidateIds));
+        Set<Long> joinedIds = new HashSet<>();
+        if (!seatedIds.isEmpty()) {
+            List<Long> orderedSeatedIds = candidateIds.stream().filter(seatedIds::contains).toList();
+            joinedIds.addAll(meetingMemberJdbcRepository.insertMeetings(member.getId(), orderedSeatedIds));
+            for (Long meetingId : orderedSeatedIds) {
+                if (joinedIds.contains(meetingId)) {
+                    eventPublisher.publishEvent(MeetingMemberChangedEvent.joined(member, meetingId));
+                } else {
+                    meetingStatusJdbcRepository.releaseSeat(meetingId);
+                }
+            }
+        }
+
+        List<Long> unseatedIds = candidateIds.stream().filter(meetingId -> !seatedIds.contains(meetingId)).toList();
+        Set<Long> completedIds = new HashSet<>();
+        Set<Long> deletedIds = new HashSet<>();
+        if (!unseatedIds.isEmpty()) {
+            completedIds.addAll(meetingRepository.findIdsByIdInAndStatus(unseatedIds, MeetingStatusEnum.COMPLETE));
+            deletedIds.addAll(meetingRepository.findIdsByIdInAndStatus(unseatedIds, MeetingStatusEnum.DELETE));
+        }
+
+        return requestedIds.stream()
+                .map(meetingId -> {
+                    if (!existingIds.contains(meetingId) || deletedIds.contains(meetingId)) {
+                        return MembershipResultDto.fail(meetingId, member.getId(), ErrorCode.MEETING_NOT_FOUND);
+                    }
+                    if (alreadyJoinedIds.contains(meetingId)) {
+                        return MembershipResultDto.fail(meetingId, member.getId(), ErrorCode.ALREADY_MEMBER);
+                    }
+                    if (completedIds.contains(meetingId)) {
+                        return MembershipResultDto.fail(meetingId, member.getId(), ErrorCode.MEETING_COMPLETE);
+                    }
+                    if (!seatedIds.contains(meetingId)) {
+                        return MembershipResultDto.fail(meetingId, member.getId(), ErrorCode.MEETING_FULL);
+                    }
+                    if (!joinedIds.contains(meetingId)) {
+                        return MembershipResultDto.fail(meetingId, member.getId(), ErrorCode.ALREADY_MEMBER);
+                    }
+                    return MembershipResultDto.success(meetingId, member.getId(), MembershipResultDto.JOINED);
+                })
+                .toList();
+    }
+
+    /* 자리 확보 실패 원인 : 삭제된 모임은 MEETING_NOT_FOUND, 완료된 모임은 MEETING_COMPLETE, 그 외 MEETING_FULL */
+    private ErrorCode seatFailureOf(MeetingStatusEnum status) {
+        return switch (status) {
+            case DELETE -> ErrorCode.MEETING_NOT_FOUND;
+            case COMPLETE -> ErrorCode.MEETING_COMPLETE;
+            default -> ErrorCode.MEETING_FULL;
+        };
+    }
+
+    /* 일괄 요청 id 목록 : null 제거, 중복 제거 (요청 순서 유지), 최대 MEMBERSHIP_BATCH_MAX_SIZE 건 */
+    private List<Long> distinctIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MEMBERSHIP_BATCH_MAX_SIZE) {
+            throw new CustomException(ErrorCode.VALIDATION_ERROR);
+        }
+        return ids.stream().filter(Objects::nonNull).distinct().toList();
+    }
+
+    /* (member_id, meeting_id) 유니크 제약 위반인지 확인 */
+    private boolean isDuplicateMembership(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException cause
+                && MeetingMember.UNIQUE_MEMBER_MEETING.equalsIgnoreCase(cause.getConstraintName());
     }
 
     /* 모임 회원 저장 */
@@ -315,6 +706,47 @@ public class MeetingServiceImpl implements MeetingService {
                 .meeting(meeting)
                 .build();
         meetingMemberRepository.save(meetingMember);
+        eventPublisher.publishEvent(MeetingMemberChangedEvent.joined(member, meeting.getId()));
+    }
+
+    /*
+     * 커서 조회 결과(pageSize + 1 건)를 응답으로 변환
+     * 1. pageSize 를 초과하면 다음 페이지가 존재
+     * 2. 현재 페이지 마지막 항목의 (정렬 값, id) 로 다음 커서 생성
+     * 3. id 로 모임을 조회하여 응답 DTO 로 변환
+     */
+    private <R, D> CursorSliceResponseDto<D> toCursorSlice(List<R> rows, Function<R, Long> idGetter, Function<R, Double> valueGetter, Function<Meeting, D> mapper) {
+        boolean hasNext = rows.size() > FEED_PAGE_SIZE;
+        List<R> pageRows = rows.stream().limit(FEED_PAGE_SIZE).toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            R last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new KeysetCursor(valueGetter.apply(last), idGetter.apply(last)).encode();
+        }
+
+        List<Long> meetingIds = pageRows.stream().map(idGetter).toList();
+        List<D> content = meetingRepository.findAllByIdInOrder(meetingIds).stream().map(mapper).toList();
+        Slice<D> slice = new SliceImpl<>(content, PageRequest.of(0, FEED_PAGE_SIZE), hasNext);
+        return new CursorSliceResponseDto<>(slice, nextCursor);
+    }
+
+    /* "1,3,5" -> 비트마스크 (TagMask), 비어 있으면 null (조건 없음) */
+    private Long parseMask(String idsStr) {
+        try {
+            return TagMask.parse(idsStr);
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.VALIDATION_ERROR);
+        }
+    }
+
+    /* 응답 변환 시 기술/경력 읽기 형식(meeting.tags.read-mode) 적용 */
+    private GetMeetingResponseDto toResponseDto(Meeting meeting) {
+        return GetMeetingResponseDto.fromEntity(meeting, meetingTagReadMode.isMask());
+    }
+
+    private GetMeetingArrayResponseDto toArrayResponseDto(Meeting meeting) {
+        return GetMeetingArrayResponseDto.fromEntity(meeting, meetingTagReadMode.isMask());
     }
 
     private boolean hasNextPage(List<Meeting> meetingList, int pageSize) {
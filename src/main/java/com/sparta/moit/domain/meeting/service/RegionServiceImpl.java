@@ -28,6 +28,7 @@ public class RegionServiceImpl implements RegionService {
     private final AddressUtil addressUtil;
 
     @Override
+    @Transactional(readOnly = true)
     public List<RegionIntegratedResponseDto> getRegion() {
         List<RegionFirst> regionIntegegratedList = regionFirstRepository.findAll();
         return regionIntegegratedList.stream().map(RegionIntegratedResponseDto::fromEntity).toList();
@@ -0,0 +1,277 @@
+package com.sparta.moit.domain.meeting.tag;
+
+import com.sparta.moit.domain.meeting.dto.TagMigrationStatusResponseDto;
+import com.sparta.moit.domain.meeting.index.MeetingGeoIndex;
+import com.sparta.moit.domain.meeting.repository.MeetingTagMaskJdbcRepository;
+import com.sparta.moit.global.error.CustomException;
+import com.sparta.moit.global.error.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+ * 기술/경력 저장 형식 마이그레이션 (jsonb, bigint[], 연결 테이블 -> 비트마스크)
+ * 1. id 순(keyset)으로 chunkSize 건씩 마스크를 수렴시키고 chunk 마다 커밋, 마지막 id 를 Redis 에 체크포인트로 저장
+ * 2. 중단 / 서버 재시작 후 다시 시작하면 체크포인트 이후부터 이어서 진행 (restart=true 면 처음부터)
+ * 3. rowsPerSecond 를 넘지 않도록 chunk 사이에 대기 (운영 중 DB 부하 제한)
+ * 4. 수렴이 마지막 chunk 까지 끝나면 Redis 에 완료 표시, 이후에만 clearLegacy=true 로 jsonb, bigint[], 연결 테이블 데이터 삭제
+ *    (read-mode=mask 에서만, 정리는 별도 체크포인트로 처음부터 진행)
+ * 5. 여러 서버에서 동시에 실행되지 않도록 Redis 락 사용, 실행 중에는 chunk 처리 시간과 관계없이 주기적으로 TTL 갱신
+ */
+@Slf4j(topic = "MeetingTagMigrationJob")
+@Component
+public class MeetingTagMigrationJob {
+    private static final String CHECKPOINT_KEY = "meeting:tags:migration:last-id";
+    private static final String CLEAR_CHECKPOINT_KEY = "meeting:tags:migration:clear-last-id";
+    private static final String CONVERGED_KEY = "meeting:tags:migration:converged";
+    private static final String LOCK_KEY = "meeting:tags:migration:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+    private static final long LOCK_REFRESH_INTERVAL_MS = 20_000L; /* LOCK_TTL 의 1/3 */
+
+    private final MeetingTagMaskJdbcRepository meetingTagMaskJdbcRepository;
+    private final MeetingGeoIndex meetingGeoIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeetingTagReadMode meetingTagReadMode;
+    private final int chunkSize;
+    private final int rowsPerSecond;
+    private final String lockOwner = UUID.randomUUID().toString();
+
+    private final Timer chunkTimer;
+    private final Counter migratedCounter;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile boolean lockHeld = false;
+    private volatile boolean stopRequested = false;
+    private volatile boolean completed = false;
+    private volatile boolean clearLegacy = false;
+    private volatile long lastId = 0L;
+    private volatile long migrated = 0L;
+    private volatile long remaining = 0L;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String lastError;
+    private Thread worker;
+
+    public MeetingTagMigrationJob(MeetingTagMaskJdbcRepository meetingTagMaskJdbcRepository,
+                                  MeetingGeoIndex meetingGeoIndex,
+                                  TransactionTemplate transactionTemplate,
+                                  RedisTemplate<String, Object> redisTemplate,
+                                  MeetingTagReadMode meetingTagReadMode,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${meeting.tags.migration.chunk-size:500}") int chunkSize,
+                                  @Value("${meeting.tags.migration.rows-per-second:2000}") int rowsPerSecond) {
+        this.meetingTagMaskJdbcRepository = meetingTagMaskJdbcRepository;
+        this.meetingGeoIndex = meetingGeoIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.redisTemplate = redisTemplate;
+        this.meetingTagReadMode = meetingTagReadMode;
+        this.chunkSize = chunkSize;
+        this.rowsPerSecond = rowsPerSecond;
+
+        Gauge.builder("meeting.tags.migration.running", running, flag -> flag.get() ? 1 : 0)
+                .description("마이그레이션 실행 여부")
+                .register(meterRegistry);
+        Gauge.builder("meeting.tags.migration.remaining", this, job -> job.remaining)
+                .description("체크포인트 이후 남은 모임 수")
+                .register(meterRegistry);
+        Gauge.builder("meeting.tags.migration.last_id", this, job -> job.lastId)
+                .description("마지막으로 처리한 모임 id")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("meeting.tags.migration.chunk")
+                .description("chunk 하나의 수렴 (+ 정리) 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.migratedCounter = meterRegistry.counter("meeting.tags.migration.migrated");
+    }
+
+    public TagMigrationStatusResponseDto start(boolean clearLegacy, boolean restart) {
+        if (clearLegacy && !meetingTagReadMode.isMask()) {
+            throw new CustomException(ErrorCode.TAG_MIGRATION_READ_MODE);
+        }
+        if (clearLegacy && !isConverged()) {
+            throw new CustomException(ErrorCode.TAG_MIGRATION_NOT_CONVERGED);
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new CustomException(ErrorCode.TAG_MIGRATION_RUNNING);
+        }
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockOwner, LOCK_TTL))) {
+            running.set(false);
+            throw new CustomException(ErrorCode.TAG_MIGRATION_RUNNING);
+        }
+        lockHeld = true;
+
+        try {
+            this.clearLegacy = clearLegacy;
+            if (restart) {
+                redisTemplate.delete(checkpointKey());
+            }
+            this.lastId = loadCheckpoint();
+            this.stopRequested = false;
+            this.completed = false;
+            this.migrated = 0L;
+            this.lastError = null;
+            this.startedAt = LocalDateTime.now();
+            this.finishedAt = null;
+            this.remaining = meetingTagMaskJdbcRepository.countAfter(lastId);
+        } catch (RuntimeException e) {
+            lockHeld = false;
+            releaseLock();
+            running.set(false);
+            throw e;
+        }
+
+        worker = new Thread(this::run, "meeting-tag-migration");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("기술/경력 마이그레이션 시작 : lastId " + lastId + ", 남은 모임 " + remaining + "건, clearLegacy " + clearLegacy);
+        return status();
+    }
+
+    /* 현재 chunk 를 마친 뒤 중단 (체크포인트 유지) */
+    public TagMigrationStatusResponseDto stop() {
+        stopRequested = true;
+        return status();
+    }
+
+    public TagMigrationStatusResponseDto status() {
+        return TagMigrationStatusResponseDto.builder()
+                .running(running.get())
+                .completed(completed)
+                .converged(isConverged())
+                .readMode(meetingTagReadMode.isMask() ? "mask" : "legacy")
+                .clearLegacy(clearLegacy)
+                .lastId(lastId)
+                .migrated(migrated)
+                .remaining(remaining)
+                .rowsPerSecond(rowsPerSecond)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .lastError(lastError)
+                .build();
+    }
+
+    private void run() {
+        try {
+            while (!stopRequested) {
+                long chunkStart = System.nanoTime();
+                List<Long> ids = chunkTimer.record(() -> transactionTemplate.execute(status -> migrateChunk()));
+                if (ids == null || ids.isEmpty()) {
+                    completed = true;
+                    if (!clearLegacy) {
+                        redisTemplate.opsForValue().set(CONVERGED_KEY, String.valueOf(lastId));
+                    }
+                    break;
+                }
+
+                lastId = Collections.max(ids);
+                migrated += ids.size();
+                remaining = Math.max(0L, remaining - ids.size());
+                migratedCounter.increment(ids.size());
+                redisTemplate.opsForValue().set(checkpointKey(), String.valueOf(lastId));
+
+                throttle(ids.size(), chunkStart);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            lastError = e.getMessage();
+            log.error("기술/경력 마이그레이션 실패 : lastId " + lastId, e);
+        } finally {
+            finishedAt = LocalDateTime.now();
+            lockHeld = false;
+            releaseLock();
+            running.set(false);
+            log.info("기술/경력 마이그레이션 " + (completed ? "완료" : "중단") + " : " + migrated + "건, lastId " + lastId);
+            if (migrated > 0) {
+                meetingGeoIndex.rebuild();
+            }
+        }
+    }
+
+    private List<Long> migrateChunk() {
+        return clearLegacy
+                ? meetingTagMaskJdbcRepository.clearLegacyChunk(lastId, chunkSize)
+                : meetingTagMaskJdbcRepository.convergeChunk(lastId, chunkSize);
+    }
+
+    /* 실행 중 락 TTL 갱신, 락을 잃었으면 (다른 서버가 획득) 현재 chunk 를 마친 뒤 중단 */
+    @Scheduled(fixedDelay = LOCK_REFRESH_INTERVAL_MS)
+    public void refreshLock() {
+        if (!lockHeld) {
+            return;
+        }
+        try {
+            if (lockOwner.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+                redisTemplate.expire(LOCK_KEY, LOCK_TTL);
+            } else {
+                stopRequested = true;
+                log.warn("마이그레이션 락 유실 : 현재 chunk 이후 중단, lastId " + lastId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("마이그레이션 락 갱신 실패 : " + e.getMessage());
+        }
+    }
+
+    /* 수렴이 마지막 chunk 까지 한 번 이상 끝났는지 */
+    private boolean isConverged() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(CONVERGED_KEY));
+    }
+
+    private String checkpointKey() {
+        return clearLegacy ? CLEAR_CHECKPOINT_KEY : CHECKPOINT_KEY;
+    }
+
+    /* chunk 처리 시간이 rows / rowsPerSecond 보다 짧으면 남은 시간만큼 대기 */
+    private void throttle(int rows, long chunkStart) throws InterruptedException {
+        if (rowsPerSecond <= 0) {
+            return;
+        }
+        long targetNanos = TimeUnit.SECONDS.toNanos(rows) / rowsPerSecond;
+        long sleepNanos = targetNanos - (System.nanoTime() - chunkStart);
+        if (sleepNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(sleepNanos);
+        }
+    }
+
+    private long loadCheckpoint() {
+        Object value = redisTemplate.opsForValue().get(checkpointKey());
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+
+    private void releaseLock() {
+        try {
+            if (lockOwner.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+                redisTemplate.delete(LOCK_KEY);
+            }
+        } catch (RuntimeException e) {
+            log.warn("마이그레이션 락 해제 실패 (TTL 이후 만료) : " + e.getMessage());
+        }
+    }
+
+    /* 종료 시 현재 chunk 까지만 처리 */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stopRequested = true;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.sparta.moit.domain.meeting.tag;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * 기술/경력 읽기 형식 (meeting.tags.read-mode)
+ * 1. legacy : 기존처럼 jsonb 목록 / bigint[] / 연결 테이블에서 읽음
+ * 2. mask : 비트마스크(skill_mask, career_mask)에서 읽음, 마스크가 비어 있는 모임은 기존 형식으로 대체
+ * 응답 DTO 변환 시에는 isMask() 값을 인자로 전달
+ */
+@Component
+public class MeetingTagReadMode {
+    private final boolean mask;
+
+    public MeetingTagReadMode(@Value("${meeting.tags.read-mode:legacy}") String readMode) {
+        this.mask = "mask".equalsIgnoreCase(readMode);
+    }
+
+    public boolean isMask() {
+        return mask;
+    }
+}
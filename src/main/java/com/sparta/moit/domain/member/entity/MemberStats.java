@@ -0,0 +1,34 @@
+package com.sparta.moit.domain.member.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * 회원별 마이페이지 통계 (참여한 모임 수, 개최한 모임 수, 총 공부 시간)
+ * 모임 등록/삭제/완료, 참가/탈퇴 시 같은 트랜잭션에서 증감 (MemberStatsUpdater)
+ */
+@Entity(name = "member_stats")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class MemberStats {
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "joined_count", nullable = false)
+    private int joinedCount;
+
+    @Column(name = "held_count", nullable = false)
+    private int heldCount;
+
+    @Column(name = "study_minutes", nullable = false)
+    private long studyMinutes;
+
+    public static MemberStats empty(Long memberId) {
+        MemberStats stats = new MemberStats();
+        stats.memberId = memberId;
+        return stats;
+    }
+}
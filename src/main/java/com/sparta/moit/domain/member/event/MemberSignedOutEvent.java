@@ -0,0 +1,13 @@
+package com.sparta.moit.domain.member.event;
+
+import lombok.Getter;
+
+/* 회원 탈퇴 시 발행되는 이벤트 (커밋 이후 인증 캐시 제거용) */
+@Getter
+public class MemberSignedOutEvent {
+    private final String email;
+
+    public MemberSignedOutEvent(String email) {
+        this.email = email;
+    }
+}
@@ -8,6 +8,10 @@ import java.util.Optional;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
+    /*
+     * 인증, 채팅 전송 등에서 반복 조회 (인증은 MemberPrincipalCache 로 캐싱)
+     * 쿼리 캐시는 서버별로 유지되어 다른 서버의 탈퇴가 반영되지 않으므로 사용하지 않음
+     */
     Optional<Member> findByEmail(String email);
     Optional<Member> findByKakaoId(Long kakaoId);
     Optional<Member> findByNaverId(String naverId);
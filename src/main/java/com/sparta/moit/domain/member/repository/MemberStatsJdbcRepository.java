@@ -0,0 +1,84 @@
+package com.sparta.moit.domain.member.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/*
+ * member_stats 증감 (행이 없으면 INSERT ... ON CONFLICT 로 생성)
+ * 공부 시간(분) = 모임 종료 시각 - 시작 시각 (COMPLETE 모임만 합산)
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberStatsJdbcRepository {
+    private static final String STUDY_MINUTES =
+            "CAST(GREATEST(FLOOR(EXTRACT(EPOCH FROM (m.meeting_end_time - m.meeting_start_time)) / 60), 0) AS bigint)";
+
+    private static final String ADD_JOINED_SQL =
+            "INSERT INTO member_stats (member_id, joined_count, held_count, study_minutes) VALUES (?, 1, 0, 0) " +
+                    "ON CONFLICT (member_id) DO UPDATE SET joined_count = member_stats.joined_count + 1";
+
+    /* 삭제된 모임 탈퇴는 참여 수에 포함되지 않으므로 제외, 완료된 모임이면 공부 시간도 차감 */
+    private static final String REMOVE_JOINED_SQL =
+            "UPDATE member_stats s SET joined_count = s.joined_count - 1, " +
+                    "   study_minutes = s.study_minutes - CASE WHEN m.status = 'COMPLETE' THEN " + STUDY_MINUTES + " ELSE 0 END " +
+                    "FROM meeting m " +
+                    "WHERE m.id = ? AND m.status <> 'DELETE' AND s.member_id = ?";
+
+    private static final String ADD_HELD_SQL =
+            "INSERT INTO member_stats (member_id, joined_count, held_count, study_minutes) VALUES (?, 0, ?, 0) " +
+                    "ON CONFLICT (member_id) DO UPDATE SET held_count = member_stats.held_count + EXCLUDED.held_count";
+
+    /* 모임 삭제 : 참가 회원 전체의 참여 수, 공부 시간 차감 */
+    private static final String REMOVE_MEETING_MEMBERS_SQL =
+            "UPDATE member_stats s SET joined_count = s.joined_count - 1, study_minutes = s.study_minutes - ? " +
+                    "FROM meeting_member mm " +
+                    "WHERE mm.meeting_id = ? AND mm.member_id = s.member_id";
+
+    /* 모임 완료 : 참가 회원 전체에 공부 시간 추가 */
+    private static final String ADD_STUDY_MINUTES_SQL =
+            "INSERT INTO member_stats (member_id, joined_count, held_count, study_minutes) " +
+                    "SELECT mm.member_id, 0, 0, " + STUDY_MINUTES + " " +
+                    "FROM meeting_member mm JOIN meeting m ON m.id = mm.meeting_id " +
+                    "WHERE m.id = ? " +
+                    "ON CONFLICT (member_id) DO UPDATE SET study_minutes = member_stats.study_minutes + EXCLUDED.study_minutes";
+
+    /* 기존 데이터로 다시 계산 (backfill 전에 이벤트로 만들어진 행도 덮어씀) */
+    private static final String BACKFILL_SQL =
+            "INSERT INTO member_stats (member_id, joined_count, held_count, study_minutes) " +
+                    "SELECT mb.id, " +
+                    "   (SELECT COUNT(*) FROM meeting_member mm JOIN meeting m ON m.id = mm.meeting_id " +
+                    "      WHERE mm.member_id = mb.id AND m.status <> 'DELETE'), " +
+                    "   (SELECT COUNT(*) FROM meeting m WHERE m.member_id = mb.id AND m.status <> 'DELETE'), " +
+                    "   (SELECT COALESCE(SUM(" + STUDY_MINUTES + "), 0) FROM meeting_member mm JOIN meeting m ON m.id = mm.meeting_id " +
+                    "      WHERE mm.member_id = mb.id AND m.status = 'COMPLETE') " +
+                    "FROM member mb " +
+                    "ON CONFLICT (member_id) DO UPDATE SET joined_count = EXCLUDED.joined_count, " +
+                    "   held_count = EXCLUDED.held_count, study_minutes = EXCLUDED.study_minutes";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addJoined(Long memberId) {
+        jdbcTemplate.update(ADD_JOINED_SQL, memberId);
+    }
+
+    public void removeJoined(Long memberId, Long meetingId) {
+        jdbcTemplate.update(REMOVE_JOINED_SQL, meetingId, memberId);
+    }
+
+    public void addHeld(Long memberId, int delta) {
+        jdbcTemplate.update(ADD_HELD_SQL, memberId, delta);
+    }
+
+    public void removeMeetingMembers(Long meetingId, long studyMinutes) {
+        jdbcTemplate.update(REMOVE_MEETING_MEMBERS_SQL, studyMinutes, meetingId);
+    }
+
+    public void addStudyMinutes(Long meetingId) {
+        jdbcTemplate.update(ADD_STUDY_MINUTES_SQL, meetingId);
+    }
+
+    public int backfill() {
+        return jdbcTemplate.update(BACKFILL_SQL);
+    }
+}
@@ -0,0 +1,7 @@
+package com.sparta.moit.domain.member.repository;
+
+import com.sparta.moit.domain.member.entity.MemberStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MemberStatsRepository extends JpaRepository<MemberStats, Long> {
+}
@@ -1,10 +1,12 @@
 package com.sparta.moit.domain.member.service;
 
 import com.sparta.moit.domain.member.entity.Member;
+import com.sparta.moit.domain.member.event.MemberSignedOutEvent;
 import com.sparta.moit.domain.member.repository.MemberRepository;
 import com.sparta.moit.global.error.CustomException;
 import com.sparta.moit.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +16,7 @@ public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
     private final KakaoService kakaoService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /*회원 탈퇴*/
     @Override
@@ -33,5 +36,6 @@ public class MemberServiceImpl implements MemberService {
             }
         }
         member1.signOutStatus();
+        eventPublisher.publishEvent(new MemberSignedOutEvent(member1.getEmail()));
     }
 }
@@ -0,0 +1,100 @@
+package com.sparta.moit.domain.member.stats;
+
+import com.sparta.moit.domain.meeting.entity.Meeting;
+import com.sparta.moit.domain.meeting.entity.MeetingStatusEnum;
+import com.sparta.moit.domain.meeting.event.MeetingChangedEvent;
+import com.sparta.moit.domain.meeting.event.MeetingMemberChangedEvent;
+import com.sparta.moit.domain.member.repository.MemberStatsJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/*
+ * member_stats 갱신
+ * 이벤트를 발행한 트랜잭션 안에서 동기로 처리 (@EventListener) 하여 모임/참가 정보와 통계가 함께 커밋, 롤백
+ * 1. 모임 등록 : 개최 수 +1 (작성자 참가는 참가 이벤트로 처리)
+ * 2. 모임 삭제 : 개최 수 -1, 참가 회원 전체 참여 수 -1 (완료된 모임이었으면 공부 시간도 차감)
+ * 3. 모임 완료 : 참가 회원 전체 공부 시간 추가
+ * 4. 참가/탈퇴 : 참여 수 +1 / -1
+ */
+@Slf4j(topic = "MemberStatsUpdater")
+@Component
+@RequiredArgsConstructor
+public class MemberStatsUpdater {
+    private static final String BACKFILL_DONE_KEY = "member:stats:backfill:done";
+    private static final String BACKFILL_LOCK_KEY = "member:stats:backfill:lock";
+    private static final Duration BACKFILL_LOCK_TTL = Duration.ofMinutes(10);
+
+    private final MemberStatsJdbcRepository memberStatsJdbcRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /*
+     * 최초 배포 시 기존 모임/참가 정보로 채움
+     * 완료 여부를 Redis 에 기록하여, 중간에 실패했거나 backfill 전에 이벤트로 일부 행이 생긴 경우에도 다시 실행
+     * 여러 서버가 동시에 기동해도 한 서버만 실행 (lock)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(BACKFILL_DONE_KEY))) {
+                return;
+            }
+            String lockOwner = UUID.randomUUID().toString();
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(BACKFILL_LOCK_KEY, lockOwner, BACKFILL_LOCK_TTL))) {
+                log.info("다른 서버에서 회원 통계 초기화 중");
+                return;
+            }
+            try {
+                int count = memberStatsJdbcRepository.backfill();
+                redisTemplate.opsForValue().set(BACKFILL_DONE_KEY, String.valueOf(System.currentTimeMillis()));
+                log.info("회원 통계 초기화 완료 : " + count + "건");
+            } finally {
+                if (lockOwner.equals(redisTemplate.opsForValue().get(BACKFILL_LOCK_KEY))) {
+                    redisTemplate.delete(BACKFILL_LOCK_KEY);
+                }
+            }
+        } catch (Exception e) {
+            log.error("회원 통계 초기화 실패, 다음 기동 시 다시 실행", e);
+        }
+    }
+
+    @EventListener
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> memberStatsJdbcRepository.addHeld(event.getMeeting().getCreator().getId(), 1);
+            case DELETED -> onMeetingDeleted(event);
+            case COMPLETED -> memberStatsJdbcRepository.addStudyMinutes(event.getMeetingId());
+            default -> {
+            }
+        }
+    }
+
+    @EventListener
+    public void onMeetingMemberChanged(MeetingMemberChangedEvent event) {
+        if (event.isJoined()) {
+            memberStatsJdbcRepository.addJoined(event.getMemberId());
+        } else {
+            memberStatsJdbcRepository.removeJoined(event.getMemberId(), event.getMeetingId());
+        }
+    }
+
+    private void onMeetingDeleted(MeetingChangedEvent event) {
+        /* 이미 삭제된 모임은 통계에서 빠져 있음 */
+        if (event.getPreviousStatus() == MeetingStatusEnum.DELETE) {
+            return;
+        }
+        Meeting meeting = event.getMeeting();
+        long studyMinutes = event.getPreviousStatus() == MeetingStatusEnum.COMPLETE
+                ? Math.max(Duration.between(meeting.getMeetingStartTime(), meeting.getMeetingEndTime()).toMinutes(), 0)
+                : 0;
+
+        memberStatsJdbcRepository.addHeld(meeting.getCreator().getId(), -1);
+        memberStatsJdbcRepository.removeMeetingMembers(meeting.getId(), studyMinutes);
+    }
+}
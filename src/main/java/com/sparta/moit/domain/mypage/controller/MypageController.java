@@ -4,14 +4,17 @@ import com.sparta.moit.domain.mypage.controller.docs.MypageControllerDocs;
 import com.sparta.moit.domain.mypage.dto.MypageMeetingResponseDto;
 import com.sparta.moit.domain.mypage.dto.MypageResponseDto;
 import com.sparta.moit.domain.mypage.service.MypageService;
+import com.sparta.moit.global.aspect.QueryBudget;
 import com.sparta.moit.global.common.dto.ResponseDto;
 import com.sparta.moit.global.security.UserDetailsImpl;
+import com.sparta.moit.global.util.pagination.CursorSliceResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -25,6 +28,7 @@ public class MypageController implements MypageControllerDocs {
 
     /* 참여한 모임, 스터디 시간, 개최한 모임 데이터 전달 */
     @GetMapping("/myinfo")
+    @QueryBudget(1)
     public ResponseEntity<ResponseDto<MypageResponseDto>> getMypage(@AuthenticationPrincipal UserDetailsImpl userDetails) {
         MypageResponseDto mypageResponseDto = mypageService.getMypageInfo(userDetails.getUser());
         return ResponseEntity.ok().body(ResponseDto.success("마이페이지 조회 완료", mypageResponseDto));
@@ -56,4 +60,40 @@ public class MypageController implements MypageControllerDocs {
         List<MypageMeetingResponseDto> responseDtoList = mypageService.getMypageBookmarkedMeetings(userDetails.getUser().getId());
         return ResponseEntity.ok().body(ResponseDto.success("북마크된 모임 조회 완료", responseDtoList));
     }
+
+    /* 참여한 모임 정보 리스트 (커서) */
+    @GetMapping("/meeting/cursor")
+    @QueryBudget(1)
+    public ResponseEntity<ResponseDto<CursorSliceResponseDto<MypageMeetingResponseDto>>> getMypageMeetingCursor(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                                                                              @RequestParam(required = false) String cursor) {
+        CursorSliceResponseDto<MypageMeetingResponseDto> responseDto = mypageService.getMypageMeetingCursor(userDetails.getUser().getId(), cursor);
+        return ResponseEntity.ok().body(ResponseDto.success("마이페이지 조회 완료", responseDto));
+    }
+
+    /* 개최한 모임 정보 리스트 (커서) */
+    @GetMapping("/meeting/held/cursor")
+    @QueryBudget(1)
+    public ResponseEntity<ResponseDto<CursorSliceResponseDto<MypageMeetingResponseDto>>> getMypageHeldCursor(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                                                                           @RequestParam(required = false) String cursor) {
+        CursorSliceResponseDto<MypageMeetingResponseDto> responseDto = mypageService.getMypageHeldCursor(userDetails.getUser().getId(), cursor);
+        return ResponseEntity.ok().body(ResponseDto.success("개최한 모임 조회 완료", responseDto));
+    }
+
+    /* 완료한 모임 정보 리스트 (커서) */
+    @GetMapping("/meeting/complete/cursor")
+    @QueryBudget(1)
+    public ResponseEntity<ResponseDto<CursorSliceResponseDto<MypageMeetingResponseDto>>> getCompletedMeetingCursor(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                                                                                 @RequestParam(required = false) String cursor) {
+        CursorSliceResponseDto<MypageMeetingResponseDto> responseDto = mypageService.getCompletedMeetingCursor(userDetails.getUser().getId(), cursor);
+        return ResponseEntity.ok().body(ResponseDto.success("완료된 모임 조회 완료", responseDto));
+    }
+
+    /* 북마크 된 모임 리스트 (커서) */
+    @GetMapping("/meeting/bookmarked/cursor")
+    @QueryBudget(1)
+    public ResponseEntity<ResponseDto<CursorSliceResponseDto<MypageMeetingResponseDto>>> getMypageBookmarkedCursor(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                                                                                 @RequestParam(required = false) String cursor) {
+        CursorSliceResponseDto<MypageMeetingResponseDto> responseDto = mypageService.getMypageBookmarkedCursor(userDetails.getUser().getId(), cursor);
+        return ResponseEntity.ok().body(ResponseDto.success("북마크된 모임 조회 완료", responseDto));
+    }
 }
@@ -3,6 +3,7 @@ package com.sparta.moit.domain.mypage.controller.docs;
 import com.sparta.moit.domain.mypage.dto.MypageMeetingResponseDto;
 import com.sparta.moit.global.common.dto.ResponseDto;
 import com.sparta.moit.global.security.UserDetailsImpl;
+import com.sparta.moit.global.util.pagination.CursorSliceResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -21,5 +22,13 @@ public interface MypageControllerDocs {
     public ResponseEntity<ResponseDto<List<MypageMeetingResponseDto>>> getCompletedMeetings(@AuthenticationPrincipal UserDetailsImpl userDetails);
     @Operation(summary = "북마크 정보 조회", description = "북마크 정보 리스트 API")
     ResponseEntity<ResponseDto<List<MypageMeetingResponseDto>>> getMypageBookmarkedMeetings(@AuthenticationPrincipal UserDetailsImpl userDetails);
+    @Operation(summary = "마이페이지 참여 모임 리스트 (커서)", description = "마이페이지 참여 모임 커서 기반 리스트 API")
+    ResponseEntity<ResponseDto<CursorSliceResponseDto<MypageMeetingResponseDto>>> getMypageMeetingCursor(@AuthenticationPrincipal UserDetailsImpl userDetails, @RequestParam(required = false) String cursor);
+    @Operation(summary = "마이페이지 개최 모임 리스트 (커서)", description = "마이페이지 개최한 모임 커서 기반 리스트 API")
+    ResponseEntity<ResponseDto<CursorSliceResponseDto<MypageMeetingResponseDto>>> getMypageHeldCursor(@AuthenticationPrincipal UserDetailsImpl userDetails, @RequestParam(required = false) String cursor);
+    @Operation(summary = "마이페이지 참여 완료 리스트 (커서)", description = "마이페이지 참여 완료 커서 기반 리스트 API")
+    ResponseEntity<ResponseDto<CursorSliceResponseDto<MypageMeetingResponseDto>>> getCompletedMeetingCursor(@AuthenticationPrincipal UserDetailsImpl userDetails, @RequestParam(required = false) String cursor);
+    @Operation(summary = "북마크 정보 조회 (커서)", description = "북마크 정보 커서 기반 리스트 API")
+    ResponseEntity<ResponseDto<CursorSliceResponseDto<MypageMeetingResponseDto>>> getMypageBookmarkedCursor(@AuthenticationPrincipal UserDetailsImpl userDetails, @RequestParam(required = false) String cursor);
 
 }
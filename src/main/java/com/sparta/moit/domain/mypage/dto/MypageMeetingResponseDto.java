@@ -2,6 +2,7 @@ package com.sparta.moit.domain.mypage.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.sparta.moit.domain.meeting.entity.Meeting;
+import com.sparta.moit.domain.meeting.entity.MeetingStatusEnum;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -37,6 +38,11 @@ public class MypageMeetingResponseDto {
         this.isBookmarked = isBookmarked;
     }
 
+    /* 목록 조회 projection 용 */
+    public MypageMeetingResponseDto(Long meetingId, String meetingName, LocalDate meetingDate, LocalDateTime meetingStartTime, LocalDateTime meetingEndTime, MeetingStatusEnum status, Boolean isBookmarked) {
+        this(meetingId, meetingName, meetingDate, meetingStartTime, meetingEndTime, status.toString(), Boolean.TRUE.equals(isBookmarked));
+    }
+
     public static MypageMeetingResponseDto fromEntity(Meeting meeting, boolean isBookmarked){
         String status = meeting.getStatus().toString(); /* Enum을 문자열로 변환 */
         return MypageMeetingResponseDto.builder()
@@ -3,16 +3,19 @@ package com.sparta.moit.domain.mypage.service;
 import com.sparta.moit.domain.member.entity.Member;
 import com.sparta.moit.domain.mypage.dto.MypageMeetingResponseDto;
 import com.sparta.moit.domain.mypage.dto.MypageResponseDto;
+import com.sparta.moit.global.util.pagination.CursorSliceResponseDto;
 
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 public interface MypageService {
     MypageResponseDto getMypageInfo(Member member);
-    long calculateStudyTime(LocalDateTime meetingStartTime, LocalDateTime meetingEndTime);
     List<MypageMeetingResponseDto> getMypageMeetingList(Long memberId);
     List<MypageMeetingResponseDto> getMypageHeldList(Long memberId);
     List<MypageMeetingResponseDto> getCompletedMeetings(Long memberId);
     List<MypageMeetingResponseDto> getMypageBookmarkedMeetings(Long memberId);
+    CursorSliceResponseDto<MypageMeetingResponseDto> getMypageMeetingCursor(Long memberId, String cursor);
+    CursorSliceResponseDto<MypageMeetingResponseDto> getMypageHeldCursor(Long memberId, String cursor);
+    CursorSliceResponseDto<MypageMeetingResponseDto> getCompletedMeetingCursor(Long memberId, String cursor);
+    CursorSliceResponseDto<MypageMeetingResponseDto> getMypageBookmarkedCursor(Long memberId, String cursor);
 }
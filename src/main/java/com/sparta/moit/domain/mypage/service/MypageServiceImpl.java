@@ -1,36 +1,43 @@
 package com.sparta.moit.domain.mypage.service;
 
 import com.sparta.moit.domain.bookmark.repository.BookMarkRepository;
-import com.sparta.moit.domain.meeting.dto.GetMyPageDto;
 import com.sparta.moit.domain.meeting.entity.Meeting;
 import com.sparta.moit.domain.meeting.entity.MeetingStatusEnum;
 import com.sparta.moit.domain.meeting.repository.MeetingMemberRepository;
 import com.sparta.moit.domain.meeting.repository.MeetingRepository;
 import com.sparta.moit.domain.member.entity.Member;
+import com.sparta.moit.domain.member.entity.MemberStats;
 import com.sparta.moit.domain.member.repository.MemberRepository;
+import com.sparta.moit.domain.member.repository.MemberStatsRepository;
 import com.sparta.moit.domain.mypage.dto.MypageMeetingResponseDto;
 import com.sparta.moit.domain.mypage.dto.MypageResponseDto;
-import com.sparta.moit.global.error.CustomException;
-import com.sparta.moit.global.error.ErrorCode;
+import com.sparta.moit.global.util.pagination.CursorSliceResponseDto;
+import com.sparta.moit.global.util.pagination.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.function.BiFunction;
 
 @Slf4j(topic = "Mypage")
 @Service
 @RequiredArgsConstructor
 public class MypageServiceImpl implements MypageService {
+    private static final int MYPAGE_PAGE_SIZE = 20;
+
     private final MemberRepository memberRepository;
     private final MeetingMemberRepository meetingMemberRepository;
     private final MeetingRepository meetingRepository;
     private final BookMarkRepository bookMarkRepository;
+    private final MemberStatsRepository memberStatsRepository;
 
 
     /*select * from meeting
@@ -44,28 +51,13 @@ public class MypageServiceImpl implements MypageService {
     @Transactional(readOnly = true)
     public MypageResponseDto getMypageInfo(Member member) {
 
-        Member member1 = memberRepository.findById(member.getId())
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_EXIST_USER));
-
-        /* 참여한 모임 개수 조회 */
-        int enterMeetingCount = meetingMemberRepository.countByMemberIdAndMeeting_StatusNot(member.getId(), MeetingStatusEnum.DELETE);
-        // TODO: meeting 중 status != DELETE 인 것만 count 하도록 변경
-
-        /* 개최한 모임 개수 */
-        int heldMeetingCount = meetingRepository.countByCreatorAndStatusNot(member, MeetingStatusEnum.DELETE);
-        // TODO: meeting 중 status != DELETE 인 것만 count 하도록 변경
-
-        List<GetMyPageDto> studyTimeList = meetingRepository.getMyPage(member.getId(), MeetingStatusEnum.COMPLETE);
-        // TODO: meeting 중 status = COMPLETE 인 것만 count 하도록 변경
+        /* 참여한 모임 수, 개최한 모임 수, 총 공부시간 : member_stats 단건 조회 (활동이 없으면 0) */
+        MemberStats stats = memberStatsRepository.findById(member.getId())
+                .orElseGet(() -> MemberStats.empty(member.getId()));
 
-        /* 총 공부시간 */
-        long totalStudyTimeMinutes = 0;
-        for (GetMyPageDto meeting : studyTimeList) {
-            LocalDateTime startTime = meeting.getMeetingStartTime();
-            LocalDateTime endTime = meeting.getMeetingEndTime();
-            long studyTimeMinutes = calculateStudyTime(startTime, endTime);
-            totalStudyTimeMinutes += studyTimeMinutes;
-        }
+        int enterMeetingCount = stats.getJoinedCount();
+        int heldMeetingCount = stats.getHeldCount();
+        long totalStudyTimeMinutes = stats.getStudyMinutes();
 
         /* 시간 형식으로 변환 */
         long hours = totalStudyTimeMinutes / 60;
@@ -79,26 +71,6 @@ public class MypageServiceImpl implements MypageService {
                 .build();
     }
 
-    public long calculateStudyTime(LocalDateTime meetingStartTime, LocalDateTime meetingEndTime) {
-        if (meetingStartTime != null && meetingEndTime != null) {
-            /* meetingStartTime이 meetingEndTime 이후나 같은지 체크*/
-            if (meetingStartTime.isAfter(meetingEndTime) || meetingStartTime.equals(meetingEndTime)) {
-                throw new IllegalArgumentException("meetingStartTime은 meetingEndTime보다 이전이어야 합니다.");
-            }
-
-            Duration duration = Duration.between(meetingStartTime, meetingEndTime);
-
-            /* - 시간 방지 */
-            if (duration.isNegative()) {
-                throw new IllegalArgumentException("meetingStartTime은 meetingEndTime보다 이전이어야 합니다.");
-            }
-
-            return duration.toMinutes();
-        } else {
-            return 0;
-        }
-    }
-
     @Override
     public List<MypageMeetingResponseDto> getMypageMeetingList(Long memberId) {
         List<Meeting> meetingList = meetingRepository.findMeetingsByMember(memberId);
@@ -136,4 +108,60 @@ public class MypageServiceImpl implements MypageService {
                 .map(meeting -> MypageMeetingResponseDto.fromEntity(meeting, true))
                 .toList();
     }
-}
\ No newline at end of file
+
+    /*
+     * 마이페이지 모임 목록 (커서)
+     * 응답 컬럼만 projection 으로 조회하고 상태 조건은 쿼리에서 처리, 모임 날짜 최신순
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSliceResponseDto<MypageMeetingResponseDto> getMypageMeetingCursor(Long memberId, String cursor) {
+        return fetchMypageSlice(cursor, (lastDate, lastId) ->
+                meetingRepository.findJoinedMeetingRows(memberId, lastDate, lastId, MYPAGE_PAGE_SIZE + 1));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSliceResponseDto<MypageMeetingResponseDto> getMypageHeldCursor(Long memberId, String cursor) {
+        return fetchMypageSlice(cursor, (lastDate, lastId) ->
+                meetingRepository.findHeldMeetingRows(memberId, lastDate, lastId, MYPAGE_PAGE_SIZE + 1));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSliceResponseDto<MypageMeetingResponseDto> getCompletedMeetingCursor(Long memberId, String cursor) {
+        return fetchMypageSlice(cursor, (lastDate, lastId) ->
+                meetingRepository.findCompletedMeetingRows(memberId, lastDate, lastId, MYPAGE_PAGE_SIZE + 1));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSliceResponseDto<MypageMeetingResponseDto> getMypageBookmarkedCursor(Long memberId, String cursor) {
+        return fetchMypageSlice(cursor, (lastDate, lastId) ->
+                meetingRepository.findBookmarkedMeetingRows(memberId, lastDate, lastId, MYPAGE_PAGE_SIZE + 1));
+    }
+
+    /*
+     * 커서 (모임 날짜의 epochDay, id) 해석 후 pageSize + 1 건 조회
+     * pageSize 를 초과하면 현재 페이지 마지막 항목으로 다음 커서 생성
+     */
+    private CursorSliceResponseDto<MypageMeetingResponseDto> fetchMypageSlice(String cursor, BiFunction<LocalDate, Long, List<MypageMeetingResponseDto>> query) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor, KeysetCursor.DESC_FIRST);
+        LocalDate lastDate = keysetCursor == KeysetCursor.DESC_FIRST
+                ? null
+                : LocalDate.ofEpochDay((long) keysetCursor.getLastValue());
+
+        List<MypageMeetingResponseDto> rows = query.apply(lastDate, keysetCursor.getLastId());
+        boolean hasNext = rows.size() > MYPAGE_PAGE_SIZE;
+        List<MypageMeetingResponseDto> content = rows.stream().limit(MYPAGE_PAGE_SIZE).toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            MypageMeetingResponseDto last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getMeetingDate().toEpochDay(), last.getMeetingId()).encode();
+        }
+
+        Slice<MypageMeetingResponseDto> slice = new SliceImpl<>(content, PageRequest.of(0, MYPAGE_PAGE_SIZE), hasNext);
+        return new CursorSliceResponseDto<>(slice, nextCursor);
+    }
+}
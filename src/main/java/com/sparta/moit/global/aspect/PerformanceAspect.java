@@ -1,28 +1,152 @@
 package com.sparta.moit.global.aspect;
 
+import com.sparta.moit.global.error.CustomException;
+import com.sparta.moit.global.metrics.QueryBudgetExceededException;
+import com.sparta.moit.global.metrics.QueryCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 컨트롤러 메서드 메트릭 (Prometheus : /actuator/prometheus)
+ * 1. moit.controller.requests : 처리 시간 Timer (percentile histogram), 태그 controller / method / variant / outcome
+ * 2. moit.controller.queries : 호출당 SQL 실행 수 (QueryCounter)
+ * 3. @QueryBudget 초과 시 warn 로그 + moit.query.budget.exceeded, db.query-budget.fail-on-exceed=true 면 예외
+ * 4. SLOW_CALL_MILLIS 를 넘는 호출만 warn 로그로 남김 (TimeCheckFilter 로 파일 기록)
+ * 메서드별 태그와 meter 는 최초 호출 시 한 번만 생성하여 재사용
+ */
 @Aspect
 @Component
 @Slf4j
 public class PerformanceAspect {
+    private static final long SLOW_CALL_MILLIS = 1000L;
+    private static final String NO_VARIANT = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean failOnBudgetExceeded;
+    private final Map<Method, ControllerMeters> meters = new ConcurrentHashMap<>();
+
+    public PerformanceAspect(MeterRegistry meterRegistry,
+                             @Value("${db.query-budget.fail-on-exceed:false}") boolean failOnBudgetExceeded) {
+        this.meterRegistry = meterRegistry;
+        this.failOnBudgetExceeded = failOnBudgetExceeded;
+    }
+
     @Around("execution(* com.sparta.moit.domain..controller.*.*(..))")
     public Object measureClassMethodExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
-        long startTime = System.currentTimeMillis();
-        Object returnValue = joinPoint.proceed();
-        long totalTime = System.currentTimeMillis() - startTime;
-
-        String methodName = joinPoint.getSignature().getName();
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        if (totalTime > 1000L) {
-            log.warn("[" + className + "." + methodName + "] took " + totalTime + " ms.");
+        Class<?> targetClass = joinPoint.getTarget().getClass();
+        ControllerMeters controllerMeters = meters.computeIfAbsent(
+                AopUtils.getMostSpecificMethod(((MethodSignature) joinPoint.getSignature()).getMethod(), targetClass),
+                method -> new ControllerMeters(targetClass.getSimpleName(), method));
+
+        long startQueryCount = QueryCounter.count();
+        long startTime = System.nanoTime();
+        String outcome = Outcome.SERVER_ERROR;
+        try {
+            Object returnValue = joinPoint.proceed();
+            checkBudget(controllerMeters, QueryCounter.count() - startQueryCount);
+            outcome = Outcome.of(returnValue);
             return returnValue;
+        } catch (CustomException e) {
+            outcome = Outcome.of(e.getHttpStatus().value());
+            throw e;
+        } finally {
+            long elapsedNanos = System.nanoTime() - startTime;
+            controllerMeters.timer(outcome).record(elapsedNanos, TimeUnit.NANOSECONDS);
+            controllerMeters.queries.record(QueryCounter.count() - startQueryCount);
+
+            long totalTime = elapsedNanos / 1_000_000;
+            if (totalTime > SLOW_CALL_MILLIS) {
+                log.warn("[" + controllerMeters.name + "] took " + totalTime + " ms.");
+            }
+        }
+    }
+
+    private void checkBudget(ControllerMeters controllerMeters, long queries) {
+        if (controllerMeters.budget == null || queries <= controllerMeters.budget.value()) {
+            return;
+        }
+        controllerMeters.budgetExceeded.increment();
+        log.warn("[" + controllerMeters.name + "] query budget exceeded : " + queries + " > " + controllerMeters.budget.value());
+        if (failOnBudgetExceeded) {
+            throw new QueryBudgetExceededException(controllerMeters.name, controllerMeters.budget.value(), queries);
+        }
+    }
+
+    private class ControllerMeters {
+        private final String name;
+        private final Tags tags;
+        private final DistributionSummary queries;
+        private final QueryBudget budget;
+        private final Counter budgetExceeded;
+        private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+        ControllerMeters(String controller, Method method) {
+            QueryVariant variant = method.getAnnotation(QueryVariant.class);
+            this.name = controller + "." + method.getName();
+            this.tags = Tags.of(
+                    "controller", controller,
+                    "method", method.getName(),
+                    "variant", variant == null ? NO_VARIANT : variant.value());
+            this.queries = DistributionSummary.builder("moit.controller.queries")
+                    .description("SQL statements executed per controller call")
+                    .tags(tags)
+                    .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                    .register(meterRegistry);
+            this.budget = method.getAnnotation(QueryBudget.class);
+            this.budgetExceeded = Counter.builder("moit.query.budget.exceeded")
+                    .description("Controller calls that executed more SQL statements than their @QueryBudget")
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
+
+        Timer timer(String outcome) {
+            return timers.computeIfAbsent(outcome, key -> Timer.builder("moit.controller.requests")
+                    .description("Controller method execution time")
+                    .tags(tags)
+                    .tag("outcome", key)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(meterRegistry));
+        }
+    }
+
+    /* 응답 상태 코드 계열 (반환값이 ResponseEntity 가 아니면 SUCCESS) */
+    private static final class Outcome {
+        static final String SUCCESS = "SUCCESS";
+        static final String CLIENT_ERROR = "CLIENT_ERROR";
+        static final String SERVER_ERROR = "SERVER_ERROR";
+
+        static String of(Object returnValue) {
+            if (returnValue instanceof ResponseEntity<?> responseEntity) {
+                return of(responseEntity.getStatusCode().value());
+            }
+            return SUCCESS;
+        }
+
+        static String of(int status) {
+            if (status >= 500) {
+                return SERVER_ERROR;
+            }
+            return status >= 400 ? CLIENT_ERROR : SUCCESS;
         }
-        log.info("[" + className + "." + methodName + "] took " + totalTime + " ms.");
-        return returnValue;
     }
 }
@@ -0,0 +1,16 @@
+package com.sparta.moit.global.aspect;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+ * 컨트롤러 메서드 한 번 호출에 허용하는 최대 SQL 수
+ * 초과 시 warn 로그 + moit.query.budget.exceeded 증가, db.query-budget.fail-on-exceed=true 면 예외 (테스트 실패)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+    int value();
+}
@@ -0,0 +1,13 @@
+package com.sparta.moit.global.aspect;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/* 같은 기능의 조회 구현 구분 (json / array / mysql / native), 컨트롤러 메트릭의 variant 태그로 사용 */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryVariant {
+    String value();
+}
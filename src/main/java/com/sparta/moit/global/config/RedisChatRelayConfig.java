@@ -0,0 +1,24 @@
+package com.sparta.moit.global.config;
+
+import com.sparta.moit.domain.chat.broadcast.RedisChatBroadcaster;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/* chat.broker.mode=redis 일 때 채팅방 채널(chat:room:*) 구독 */
+@Configuration
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class RedisChatRelayConfig {
+
+    @Bean
+    public RedisMessageListenerContainer chatRelayListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                   RedisChatBroadcaster redisChatBroadcaster) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(redisChatBroadcaster, new PatternTopic(RedisChatBroadcaster.CHANNEL_PATTERN));
+        return container;
+    }
+}
@@ -0,0 +1,24 @@
+package com.sparta.moit.global.config;
+
+import com.sparta.moit.domain.meeting.cache.MeetingFeedTileCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/* meeting.feed-cache.enabled=true 일 때 모임 목록 캐시 제거 채널(meeting:feed:invalidate) 구독 */
+@Configuration
+@ConditionalOnProperty(name = "meeting.feed-cache.enabled", havingValue = "true")
+public class RedisFeedCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer feedCacheListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                    MeetingFeedTileCache meetingFeedTileCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(meetingFeedTileCache, new ChannelTopic(MeetingFeedTileCache.INVALIDATE_CHANNEL));
+        return container;
+    }
+}
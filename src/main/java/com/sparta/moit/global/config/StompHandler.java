@@ -1,5 +1,6 @@
 package com.sparta.moit.global.config;
 
+import com.sparta.moit.domain.chat.session.ChatSessionRegistry;
 import com.sparta.moit.domain.member.entity.Member;
 import com.sparta.moit.domain.member.repository.MemberRepository;
 import com.sparta.moit.global.error.CustomException;
@@ -27,6 +28,7 @@ import java.util.List;
 public class StompHandler implements ChannelInterceptor {
     private final JwtUtil jwtUtil;
     private final MemberRepository memberRepository;
+    private final ChatSessionRegistry chatSessionRegistry;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -56,6 +58,8 @@ public class StompHandler implements ChannelInterceptor {
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                     // accessor에 등록
                     accessor.setUser(authentication);
+                    // 세션별 채팅 권한 캐시 등록
+                    chatSessionRegistry.register(accessor.getSessionId(), member);
                 } catch (RuntimeException e) {
                     log.error("JWT Verification Failed: " + e.getMessage());
                     return null;
@@ -69,6 +73,10 @@ public class StompHandler implements ChannelInterceptor {
                 return null;
             }
         }
+        // 구독 시 채팅방 참가 여부 갱신
+        if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            chatSessionRegistry.subscribe(accessor.getSessionId(), accessor.getDestination());
+        }
         return message;
     }
 }
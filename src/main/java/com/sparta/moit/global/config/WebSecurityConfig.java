@@ -3,7 +3,7 @@ package com.sparta.moit.global.config;
 import com.sparta.moit.global.jwt.JwtUtil;
 import com.sparta.moit.global.security.JwtAuthenticationFilter;
 import com.sparta.moit.global.security.JwtAuthorizationFilter;
-import com.sparta.moit.global.security.UserDetailsServiceImpl;
+import com.sparta.moit.global.security.MemberPrincipalCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
@@ -31,13 +31,13 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class WebSecurityConfig {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsServiceImpl userDetailsService;
     private final AuthenticationConfiguration authenticationConfiguration;
+    private final MemberPrincipalCache memberPrincipalCache;
 
-    public WebSecurityConfig(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, AuthenticationConfiguration authenticationConfiguration) {
+    public WebSecurityConfig(JwtUtil jwtUtil, AuthenticationConfiguration authenticationConfiguration, MemberPrincipalCache memberPrincipalCache) {
         this.jwtUtil = jwtUtil;
-        this.userDetailsService = userDetailsService;
         this.authenticationConfiguration = authenticationConfiguration;
+        this.memberPrincipalCache = memberPrincipalCache;
     }
 
     @Bean
@@ -59,7 +59,7 @@ public class WebSecurityConfig {
 
     @Bean
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
-        return new JwtAuthorizationFilter(jwtUtil, userDetailsService);
+        return new JwtAuthorizationFilter(jwtUtil, memberPrincipalCache);
     }
 
     @Bean
@@ -95,6 +95,7 @@ public class WebSecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/meetings/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/region/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/skill").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/career").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/member/myinfo").permitAll()
                         .requestMatchers("/login").permitAll()
                         .requestMatchers("/api/member/signin/kakao").permitAll()
@@ -1,5 +1,6 @@
 package com.sparta.moit.global.config;
 
+import com.sparta.moit.global.metrics.StompQueryCountInterceptor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
@@ -11,9 +12,11 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final StompHandler stompHandler;
+    private final StompQueryCountInterceptor stompQueryCountInterceptor;
 
-    public WebSocketConfig(StompHandler stompHandler) {
+    public WebSocketConfig(StompHandler stompHandler, StompQueryCountInterceptor stompQueryCountInterceptor) {
         this.stompHandler = stompHandler;
+        this.stompQueryCountInterceptor = stompQueryCountInterceptor;
     }
 
     @Override
@@ -29,6 +32,6 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration){
-        registration.interceptors(stompHandler);
+        registration.interceptors(stompHandler, stompQueryCountInterceptor);
     }
 }
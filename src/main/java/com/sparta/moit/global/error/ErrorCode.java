@@ -70,7 +70,10 @@ public enum ErrorCode {
     BOOKMARK_NOT_FOUND("BOOKMARK_NOT_FOUND", "북마크를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     NOT_EXIST_MY_PAGE("NOT_EXIST_MY_PAGE", "마이페이지를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     KAKAOID_UNLINK_FAILURE("KAKAOID_UNLINK_FAILURE", "카카오 ID 연동에 실패했습니다.", HttpStatus.FAILED_DEPENDENCY),
-    REFRESH_TOKEN_ERROR("REFRESH_TOKEN_ERROR", "RefreshToken 요청입니다.", HttpStatus.BAD_REQUEST)
+    REFRESH_TOKEN_ERROR("REFRESH_TOKEN_ERROR", "RefreshToken 요청입니다.", HttpStatus.BAD_REQUEST),
+    TAG_MIGRATION_RUNNING("TAG_MIGRATION_RUNNING", "기술/경력 마이그레이션이 이미 실행 중입니다.", HttpStatus.CONFLICT),
+    TAG_MIGRATION_READ_MODE("TAG_MIGRATION_READ_MODE", "기존 형식 정리는 meeting.tags.read-mode=mask 에서만 가능합니다.", HttpStatus.BAD_REQUEST),
+    TAG_MIGRATION_NOT_CONVERGED("TAG_MIGRATION_NOT_CONVERGED", "모든 모임의 비트마스크 수렴이 끝난 뒤에만 기존 형식을 정리할 수 있습니다.", HttpStatus.CONFLICT)
     ;
 
 
@@ -0,0 +1,106 @@
+package com.sparta.moit.global.filter;
+
+import com.sparta.moit.global.metrics.QueryCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * HTTP 요청당 SQL 실행 수 / DB 시간
+ * 1. moit.http.queries, moit.http.query.time (태그 : uri 패턴, method)
+ * 2. db.query-count.response-header=true 이면 X-Query-Count, X-Query-Time-Ms 응답 헤더 추가
+ *    (헤더를 본문보다 늦게 쓰기 위해 응답을 버퍼링하므로 로컬 확인용)
+ */
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean responseHeaderEnabled;
+    /* (uri 패턴, method) 별 meter, 요청마다 builder 로 등록하지 않도록 재사용 */
+    private final Map<String, RequestMeters> meters = new ConcurrentHashMap<>();
+
+    public QueryCountFilter(MeterRegistry meterRegistry,
+                            @Value("${db.query-count.response-header:false}") boolean responseHeaderEnabled) {
+        this.meterRegistry = meterRegistry;
+        this.responseHeaderEnabled = responseHeaderEnabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri.startsWith("/ws") || uri.startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
+        long startCount = QueryCounter.count();
+        long startNanos = QueryCounter.nanos();
+
+        if (!responseHeaderEnabled) {
+            try {
+                filterChain.doFilter(req, res);
+            } finally {
+                record(req, QueryCounter.count() - startCount, QueryCounter.nanos() - startNanos);
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(res);
+        try {
+            filterChain.doFilter(req, wrapper);
+        } finally {
+            long queries = QueryCounter.count() - startCount;
+            long queryNanos = QueryCounter.nanos() - startNanos;
+            record(req, queries, queryNanos);
+            wrapper.setHeader(QUERY_COUNT_HEADER, String.valueOf(queries));
+            wrapper.setHeader(QUERY_TIME_HEADER, String.format("%.2f", queryNanos / 1_000_000.0));
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void record(HttpServletRequest req, long queries, long queryNanos) {
+        Object pattern = req.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+        String method = req.getMethod();
+
+        RequestMeters requestMeters = meters.computeIfAbsent(method + " " + uri, key -> new RequestMeters(uri, method));
+        requestMeters.queries.record(queries);
+        requestMeters.queryTime.record(queryNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private class RequestMeters {
+        private final DistributionSummary queries;
+        private final Timer queryTime;
+
+        RequestMeters(String uri, String method) {
+            this.queries = DistributionSummary.builder("moit.http.queries")
+                    .description("SQL statements executed per HTTP request")
+                    .tag("uri", uri)
+                    .tag("method", method)
+                    .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                    .register(meterRegistry);
+            this.queryTime = Timer.builder("moit.http.query.time")
+                    .description("Time spent executing SQL per HTTP request")
+                    .tag("uri", uri)
+                    .tag("method", method)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -32,6 +32,7 @@ public class JwtUtil {
     private final MemberRepository memberRepository;
 
     private final RedisRefreshTokenRepository redisRefreshTokenRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String AUTHORIZATION_KEY = "auth";
     public static final String BEARER_PREFIX = "Bearer ";
@@ -40,17 +41,20 @@ public class JwtUtil {
     @Value("${jwt.secret.key}")
     private String secretKey;
     private Key key;
+    private JwtParser jwtParser; /* 서명 키가 고정이므로 한 번만 생성하여 재사용 */
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
-    public JwtUtil(MemberRepository memberRepository, RedisRefreshTokenRepository redisRefreshTokenRepository) {
+    public JwtUtil(MemberRepository memberRepository, RedisRefreshTokenRepository redisRefreshTokenRepository, VerifiedTokenCache verifiedTokenCache) {
         this.memberRepository = memberRepository;
         this.redisRefreshTokenRepository = redisRefreshTokenRepository;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     public String createToken(String email, UserRoleEnum role) {
@@ -76,34 +80,37 @@ public class JwtUtil {
     }
 
     public boolean validateToken(String token, HttpServletResponse res) throws IOException {
+        return parseClaims(token, res) != null;
+    }
+
+    /* 서명 검증과 claims 조회를 한 번의 파싱으로 처리, 유효하지 않으면 에러 응답 후 null */
+    public Claims parseClaims(String token, HttpServletResponse res) throws IOException {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return getUserInfoFromToken(token);
         } catch (SecurityException | MalformedJwtException | SignatureException e) {
             log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
             sendErrorResponse(res, HttpStatus.UNAUTHORIZED.value(), "Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
-            return false;
+            return null;
         } catch (ExpiredJwtException e) {
             log.error("Expired JWT token, 만료된 JWT token 입니다.");
             sendErrorResponse(res, HttpStatus.UNAUTHORIZED.value(), "Expired JWT token, 만료된 JWT token 입니다.");
-            return false;
+            return null;
         } catch (UnsupportedJwtException e) {
             log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.");
             sendErrorResponse(res, HttpStatus.UNAUTHORIZED.value(), "Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.");
-            return false;
+            return null;
         } catch (IllegalArgumentException e) {
             log.error("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
             sendErrorResponse(res, HttpStatus.UNAUTHORIZED.value(), "JWT claims is empty, 잘못된 JWT 토큰 입니다.");
-            return false;
+            return null;
         }
     }
 
     public String getTokenType(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(secretKey) // secretKey 설정
-                .parseClaimsJws(token)   // 토큰 파싱 및 검증
-                .getBody();             // 토큰의 body (claims) 가져오기
+        return getTokenType(getUserInfoFromToken(token));
+    }
 
+    public String getTokenType(Claims claims) {
         return claims.get("type", String.class);
     }
 
@@ -180,8 +187,9 @@ public class JwtUtil {
         return null;
     }
 
+    /* 이미 검증한 토큰이면 캐시된 claims 반환 (exp 이후에는 다시 검증) */
     public Claims getUserInfoFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return verifiedTokenCache.get(token, value -> jwtParser.parseClaimsJws(value).getBody());
     }
 
 }
\ No newline at end of file
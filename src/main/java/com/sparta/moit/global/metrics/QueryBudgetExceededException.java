@@ -0,0 +1,8 @@
+package com.sparta.moit.global.metrics;
+
+/* @QueryBudget 을 초과한 경우 (db.query-budget.fail-on-exceed=true 일 때만 발생, 테스트용) */
+public class QueryBudgetExceededException extends RuntimeException {
+    public QueryBudgetExceededException(String name, int budget, long queries) {
+        super("[" + name + "] query budget exceeded : " + queries + " > " + budget);
+    }
+}
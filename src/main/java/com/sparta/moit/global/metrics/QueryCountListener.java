@@ -0,0 +1,21 @@
+package com.sparta.moit.global.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/* 실행된 SQL 수 (batch 는 실행 단위로 1) 와 실행 시간을 QueryCounter 에 누적 */
+public class QueryCountListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryCounter.beforeQuery();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryCounter.afterQuery(execInfo.isBatch() ? 1 : queryInfoList.size());
+    }
+}
@@ -0,0 +1,33 @@
+package com.sparta.moit.global.metrics;
+
+/*
+ * 스레드별 누적 SQL 실행 수 / 실행 시간 (datasource-proxy 로 집계, JPA 와 JdbcTemplate 모두 포함)
+ * 값은 초기화하지 않고 누적만 하므로, 범위 (요청, 메시지, 컨트롤러 호출) 시작과 끝의 차이로 계산
+ */
+public final class QueryCounter {
+    private static final int COUNT = 0;
+    private static final int NANOS = 1;
+    private static final int STARTED_AT = 2;
+    private static final ThreadLocal<long[]> STATE = ThreadLocal.withInitial(() -> new long[3]);
+
+    private QueryCounter() {
+    }
+
+    public static long count() {
+        return STATE.get()[COUNT];
+    }
+
+    public static long nanos() {
+        return STATE.get()[NANOS];
+    }
+
+    static void beforeQuery() {
+        STATE.get()[STARTED_AT] = System.nanoTime();
+    }
+
+    static void afterQuery(int statementCount) {
+        long[] state = STATE.get();
+        state[COUNT] += statementCount;
+        state[NANOS] += System.nanoTime() - state[STARTED_AT];
+    }
+}
@@ -0,0 +1,64 @@
+package com.sparta.moit.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/*
+ * STOMP 메시지당 SQL 실행 수 / DB 시간 (@MessageMapping 처리 구간)
+ * moit.stomp.queries, moit.stomp.query.time (태그 : command, destination 의 숫자는 {id} 로 치환)
+ */
+@Component
+@RequiredArgsConstructor
+public class StompQueryCountInterceptor implements ExecutorChannelInterceptor {
+    private static final Pattern NUMBER = Pattern.compile("/\\d+");
+    private static final ThreadLocal<long[]> START = ThreadLocal.withInitial(() -> new long[2]);
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (handler instanceof SimpAnnotationMethodMessageHandler) {
+            long[] start = START.get();
+            start[0] = QueryCounter.count();
+            start[1] = QueryCounter.nanos();
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (!(handler instanceof SimpAnnotationMethodMessageHandler)) {
+            return;
+        }
+        long[] start = START.get();
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        String command = accessor.getCommand() == null ? "UNKNOWN" : accessor.getCommand().name();
+        String destination = accessor.getDestination() == null ? "UNKNOWN" : NUMBER.matcher(accessor.getDestination()).replaceAll("/{id}");
+
+        DistributionSummary.builder("moit.stomp.queries")
+                .description("SQL statements executed per STOMP message")
+                .tag("command", command)
+                .tag("destination", destination)
+                .serviceLevelObjectives(1, 2, 5, 10, 20)
+                .register(meterRegistry)
+                .record(QueryCounter.count() - start[0]);
+        Timer.builder("moit.stomp.query.time")
+                .description("Time spent executing SQL per STOMP message")
+                .tag("command", command)
+                .tag("destination", destination)
+                .register(meterRegistry)
+                .record(QueryCounter.nanos() - start[1], TimeUnit.NANOSECONDS);
+    }
+}
@@ -25,11 +25,11 @@ import java.io.IOException;
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final MemberPrincipalCache memberPrincipalCache;
 
-    public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService) {
+    public JwtAuthorizationFilter(JwtUtil jwtUtil, MemberPrincipalCache memberPrincipalCache) {
         this.jwtUtil = jwtUtil;
-        this.userDetailsService = userDetailsService;
+        this.memberPrincipalCache = memberPrincipalCache;
     }
 
     @Override
@@ -41,18 +41,17 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             return;
         }
 
-        String tokenType = jwtUtil.getTokenType(tokenValue);
-        if (!tokenType.equals("access")) {
-            throw new CustomException(ErrorCode.REFRESH_TOKEN_ERROR);
-        }
-
         if (StringUtils.hasText(tokenValue)) {
 
-            if (!jwtUtil.validateToken(tokenValue, res)) {
+            /* 서명 검증 + claims 조회 (한 번만 파싱) */
+            Claims info = jwtUtil.parseClaims(tokenValue, res);
+            if (info == null) {
                 return;
             }
 
-            Claims info = jwtUtil.getUserInfoFromToken(tokenValue);
+            if (!"access".equals(jwtUtil.getTokenType(info))) {
+                throw new CustomException(ErrorCode.REFRESH_TOKEN_ERROR);
+            }
 
             try {
                 setAuthentication(info.getSubject());
@@ -80,7 +79,7 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     }
 
     private Authentication createAuthentication(String username) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        UserDetails userDetails = memberPrincipalCache.get(username);
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 }
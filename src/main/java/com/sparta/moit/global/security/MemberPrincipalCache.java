@@ -0,0 +1,46 @@
+package com.sparta.moit.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.moit.domain.member.event.MemberSignedOutEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/*
+ * 인증 회원 캐시 (JWT subject(이메일) -> UserDetailsImpl)
+ * 1. 요청마다 회원을 DB 에서 조회하지 않도록 짧은 TTL 로 캐싱
+ * 2. 회원 탈퇴 시 해당 항목 제거
+ */
+@Component
+public class MemberPrincipalCache {
+    private final UserDetailsServiceImpl userDetailsService;
+    private final Cache<String, UserDetailsImpl> cache;
+
+    public MemberPrincipalCache(UserDetailsServiceImpl userDetailsService,
+                                @Value("${jwt.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                                @Value("${jwt.principal-cache.max-size:10000}") long maxSize) {
+        this.userDetailsService = userDetailsService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /* 없는 회원은 캐싱하지 않고 UsernameNotFoundException */
+    public UserDetailsImpl get(String email) {
+        return cache.get(email, key -> (UserDetailsImpl) userDetailsService.loadUserByUsername(key));
+    }
+
+    public void evict(String email) {
+        cache.invalidate(email);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberSignedOut(MemberSignedOutEvent event) {
+        evict(event.getEmail());
+    }
+}
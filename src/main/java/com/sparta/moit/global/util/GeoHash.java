@@ -0,0 +1,116 @@
+package com.sparta.moit.global.util;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/*
+ * geohash 인코딩 / 타일 계산
+ * 정밀도 p 의 타일 크기 : 경도 360 / 2^ceil(5p/2), 위도 180 / 2^floor(5p/2) (p=6 이면 약 1.2km x 0.6km)
+ */
+public final class GeoHash {
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double EARTH_RADIUS_METER = 6_371_008.8;
+    private static final double METER_PER_DEGREE = 111_320.0;
+
+    private GeoHash() {
+    }
+
+    public static String encode(double lat, double lng, int precision) {
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int index = 0;
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (lng >= mid) {
+                    index = index * 2 + 1;
+                    minLng = mid;
+                } else {
+                    index = index * 2;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) {
+                    index = index * 2 + 1;
+                    minLat = mid;
+                } else {
+                    index = index * 2;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(index));
+                bit = 0;
+                index = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /* 타일 중심 좌표 {위도, 경도} */
+    public static double[] center(String hash) {
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        boolean evenBit = true;
+        for (int i = 0; i < hash.length(); i++) {
+            int index = BASE32.indexOf(hash.charAt(i));
+            for (int shift = 4; shift >= 0; shift--) {
+                boolean set = ((index >> shift) & 1) == 1;
+                if (evenBit) {
+                    double mid = (minLng + maxLng) / 2;
+                    if (set) {
+                        minLng = mid;
+                    } else {
+                        maxLng = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (set) {
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                evenBit = !evenBit;
+            }
+        }
+        return new double[]{(minLat + maxLat) / 2, (minLng + maxLng) / 2};
+    }
+
+    /* 타일 중심이 기준 좌표 반경 radiusMeter 이내인 타일 전체 */
+    public static Set<String> tilesWithin(double lat, double lng, double radiusMeter, int precision) {
+        double cellHeight = 180 / Math.pow(2, Math.floor(5 * precision / 2.0));
+        double cellWidth = 360 / Math.pow(2, Math.ceil(5 * precision / 2.0));
+        double latDelta = radiusMeter / METER_PER_DEGREE;
+        double lngDelta = radiusMeter / (METER_PER_DEGREE * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+
+        long minLatIndex = (long) Math.floor((lat - latDelta + 90) / cellHeight);
+        long maxLatIndex = (long) Math.floor((lat + latDelta + 90) / cellHeight);
+        long minLngIndex = (long) Math.floor((lng - lngDelta + 180) / cellWidth);
+        long maxLngIndex = (long) Math.floor((lng + lngDelta + 180) / cellWidth);
+
+        Set<String> tiles = new LinkedHashSet<>();
+        for (long latIndex = minLatIndex; latIndex <= maxLatIndex; latIndex++) {
+            double centerLat = -90 + (latIndex + 0.5) * cellHeight;
+            for (long lngIndex = minLngIndex; lngIndex <= maxLngIndex; lngIndex++) {
+                double centerLng = -180 + (lngIndex + 0.5) * cellWidth;
+                if (distanceMeter(lat, lng, centerLat, centerLng) <= radiusMeter) {
+                    tiles.add(encode(centerLat, centerLng, precision));
+                }
+            }
+        }
+        return tiles;
+    }
+
+    /* 하버사인 공식 (m) */
+    public static double distanceMeter(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METER * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
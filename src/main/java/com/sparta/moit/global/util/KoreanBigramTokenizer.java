@@ -0,0 +1,71 @@
+package com.sparta.moit.global.util;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/*
+ * 전문 검색용 토크나이저 (PostgreSQL 에 한국어 사전이 없어 'simple' 설정 + 바이그램 사용)
+ * 1. 문자/숫자 외의 문자로 단어 분리, 소문자 변환
+ * 2. 단어 안에서 한글 구간과 그 외 구간을 나눔
+ * 3. 한글 구간은 2글자씩 겹쳐 자름 (모임이름 -> 모임, 임이, 이름), 1글자면 그대로
+ * 4. 그 외 구간(영문, 숫자)은 그대로
+ * 문서와 검색어를 같은 규칙으로 나누므로 "스프링" 검색 시 "스프링부트 스터디" 도 검색됨
+ */
+public class KoreanBigramTokenizer {
+
+    private KoreanBigramTokenizer() {
+    }
+
+    /* search_document 컬럼 값 : 토큰을 공백으로 연결 */
+    public static String toDocument(String... texts) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String text : texts) {
+            tokens.addAll(tokenize(text, false));
+        }
+        return String.join(" ", tokens);
+    }
+
+    /*
+     * to_tsquery('simple', ...) 에 사용할 검색식 : 모든 토큰 AND
+     * 한 글자 한글, 영문/숫자 토큰은 접두어 검색(:*), 토큰이 없으면 null
+     */
+    public static String toTsQuery(String keyword) {
+        List<String> tokens = tokenize(keyword, true);
+        return tokens.isEmpty() ? null : String.join(" & ", tokens);
+    }
+
+    private static List<String> tokenize(String text, boolean forQuery) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return List.of();
+        }
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            int start = 0;
+            while (start < word.length()) {
+                boolean hangul = isHangul(word.charAt(start));
+                int end = start;
+                while (end < word.length() && isHangul(word.charAt(end)) == hangul) {
+                    end++;
+                }
+                String run = word.substring(start, end);
+                if (!hangul) {
+                    tokens.add(forQuery ? run + ":*" : run);
+                } else if (run.length() == 1) {
+                    tokens.add(forQuery ? run + ":*" : run);
+                } else {
+                    for (int i = 0; i < run.length() - 1; i++) {
+                        tokens.add(run.substring(i, i + 2));
+                    }
+                }
+                start = end;
+            }
+        }
+        return List.copyOf(tokens);
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+}
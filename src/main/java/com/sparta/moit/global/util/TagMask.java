@@ -0,0 +1,63 @@
+package com.sparta.moit.global.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * 기술 / 경력 id 목록 <-> bigint 비트마스크 변환 (id n -> n-1 번째 비트)
+ * 기술 52개, 경력 5개로 63비트 안에 들어가므로 모임당 컬럼 하나로 저장하고, 필터는 (mask & filter) <> 0 한 번으로 처리
+ * 범위(1 ~ 63)를 벗어난 id 는 어떤 모임과도 겹칠 수 없으므로 무시
+ */
+public final class TagMask {
+    public static final int MAX_ID = 63;
+
+    private TagMask() {
+    }
+
+    public static long of(Long[] ids) {
+        return ids == null ? 0L : of(Arrays.asList(ids));
+    }
+
+    public static long of(Collection<Long> ids) {
+        long mask = 0L;
+        if (ids == null) {
+            return mask;
+        }
+        for (Long id : ids) {
+            if (id != null && id >= 1 && id <= MAX_ID) {
+                mask |= 1L << (id - 1);
+            }
+        }
+        return mask;
+    }
+
+    /* "1,3,5" -> 마스크, 비어 있으면 null (조건 없음), 숫자가 아니면 NumberFormatException */
+    public static Long parse(String idsStr) {
+        if (idsStr == null || idsStr.isBlank()) {
+            return null;
+        }
+        List<Long> ids = Arrays.stream(idsStr.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .map(Long::valueOf)
+                .toList();
+        return of(ids);
+    }
+
+    public static Long[] toIds(long mask) {
+        List<Long> ids = new ArrayList<>(Long.bitCount(mask));
+        long remaining = mask;
+        while (remaining != 0) {
+            ids.add((long) Long.numberOfTrailingZeros(remaining) + 1);
+            remaining &= remaining - 1;
+        }
+        return ids.toArray(new Long[0]);
+    }
+
+    /* filter 가 null 이면 조건 없음 */
+    public static boolean matchesAny(long mask, Long filter) {
+        return filter == null || (mask & filter) != 0;
+    }
+}
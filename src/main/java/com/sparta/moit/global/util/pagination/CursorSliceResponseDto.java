@@ -0,0 +1,16 @@
+package com.sparta.moit.global.util.pagination;
+
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+/* 커서 기반 목록 응답 (다음 페이지가 없으면 nextCursor 는 null) */
+@Getter
+public class CursorSliceResponseDto<T> {
+    private final Slice<T> slice;
+    private final String nextCursor;
+
+    public CursorSliceResponseDto(Slice<T> slice, String nextCursor) {
+        this.slice = slice;
+        this.nextCursor = nextCursor;
+    }
+}
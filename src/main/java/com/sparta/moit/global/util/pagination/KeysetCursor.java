@@ -0,0 +1,53 @@
+package com.sparta.moit.global.util.pagination;
+
+import com.sparta.moit.global.error.CustomException;
+import com.sparta.moit.global.error.ErrorCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/*
+ * (정렬 값, id) 커서 : 거리순 목록은 (거리, id), 검색은 (관련도, id)
+ * 클라이언트에는 Base64 로 인코딩된 문자열로만 전달 (형식은 서버 내부 구현)
+ */
+@Getter
+public class KeysetCursor {
+    private static final String DELIMITER = ":";
+
+    /* 오름차순 첫 페이지 : 모든 (값, id) 보다 작은 값 */
+    public static final KeysetCursor ASC_FIRST = new KeysetCursor(-1D, 0L);
+
+    /* 내림차순 첫 페이지 : 모든 (값, id) 보다 큰 값 */
+    public static final KeysetCursor DESC_FIRST = new KeysetCursor(Double.MAX_VALUE, Long.MAX_VALUE);
+
+    private final double lastValue;
+    private final Long lastId;
+
+    public KeysetCursor(double lastValue, Long lastId) {
+        this.lastValue = lastValue;
+        this.lastId = lastId;
+    }
+
+    public String encode() {
+        String raw = lastValue + DELIMITER + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        return decode(cursor, ASC_FIRST);
+    }
+
+    public static KeysetCursor decode(String cursor, KeysetCursor first) {
+        if (cursor == null || cursor.isBlank()) {
+            return first;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER);
+            return new KeysetCursor(Double.parseDouble(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new CustomException(ErrorCode.VALIDATION_ERROR);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.sparta.moit.domain.chat.broadcast;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.moit.domain.chat.dto.SendChatResponseDto;
+import com.sparta.moit.domain.chat.dto.SenderResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/*
+ * chat.broker.mode=redis 중계 왕복 테스트
+ * 서버 두 대(연결, 리스너 컨테이너, SimpMessagingTemplate 각각)를 만들고
+ * A 서버에서 발행한 채팅이 Redis 를 거쳐 B 서버의 로컬 STOMP 토픽으로 전달되는지 확인
+ * Docker 가 없으면 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisChatBroadcasterTest {
+    private static final int REDIS_PORT = 6379;
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(REDIS_PORT);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node();
+        nodeB = new Node();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 발행한 채팅을 로컬 채팅방 토픽으로 전달")
+    void broadcastToOtherNode() {
+        // given
+        Long meetingId = 1L;
+        SendChatResponseDto message = SendChatResponseDto.builder()
+                .chatId(10L)
+                .sender(SenderResponseDto.builder().memberId(2L).memberName("tester").memberEmail("tester@email.com").build())
+                .content("안녕하세요")
+                .createdAt(LocalDateTime.of(2024, 5, 1, 12, 0))
+                .build();
+
+        // when
+        nodeA.broadcaster.broadcast(meetingId, message);
+
+        // then
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(nodeB.messagingTemplate, timeout(5000)).convertAndSend(eq("/topic/rooms/1/chat"), payload.capture());
+
+        JsonNode delivered = (JsonNode) payload.getValue();
+        assertEquals(10L, delivered.get("chatId").asLong());
+        assertEquals("안녕하세요", delivered.get("content").asText());
+        assertEquals(2L, delivered.get("sender").get("memberId").asLong());
+        assertTrue(nodeB.meterRegistry.get("chat.broadcast.delivery").timer().count() >= 1);
+    }
+
+    @Test
+    @DisplayName("발행한 서버의 구독자에게도 Redis 를 거쳐 한 번만 전달")
+    void broadcastToPublishingNode() {
+        // given
+        SendChatResponseDto message = SendChatResponseDto.builder()
+                .chatId(11L)
+                .content("본인 서버")
+                .build();
+
+        // when
+        nodeA.broadcaster.broadcast(2L, message);
+
+        // then
+        verify(nodeA.messagingTemplate, timeout(5000).times(1)).convertAndSend(eq("/topic/rooms/2/chat"), ArgumentCaptor.forClass(Object.class).capture());
+        assertEquals(0, nodeA.meterRegistry.counter("chat.broadcast.publish.fail").count());
+    }
+
+    /* 서버 한 대 분량의 Redis 연결, 리스너 컨테이너, 로컬 브로커 */
+    private class Node implements AutoCloseable {
+        private final LettuceConnectionFactory connectionFactory;
+        private final RedisMessageListenerContainer listenerContainer;
+        private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final RedisChatBroadcaster broadcaster;
+
+        Node() {
+            connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(REDIS_PORT));
+            connectionFactory.afterPropertiesSet();
+
+            RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+            redisTemplate.setKeySerializer(new StringRedisSerializer());
+            redisTemplate.setValueSerializer(new StringRedisSerializer());
+            redisTemplate.setConnectionFactory(connectionFactory);
+            redisTemplate.afterPropertiesSet();
+
+            broadcaster = new RedisChatBroadcaster(redisTemplate, messagingTemplate, objectMapper, meterRegistry);
+
+            listenerContainer = new RedisMessageListenerContainer();
+            listenerContainer.setConnectionFactory(connectionFactory);
+            listenerContainer.addMessageListener(broadcaster, new PatternTopic(RedisChatBroadcaster.CHANNEL_PATTERN));
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+        }
+
+        @Override
+        public void close() throws Exception {
+            listenerContainer.destroy();
+            connectionFactory.destroy();
+        }
+    }
+}
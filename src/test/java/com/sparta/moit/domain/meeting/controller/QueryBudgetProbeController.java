@@ -0,0 +1,24 @@
+package com.sparta.moit.domain.meeting.controller;
+
+import com.sparta.moit.global.aspect.QueryBudget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/* 테스트 전용 : 예산(1) 보다 많은 SQL(2) 을 실행하는 컨트롤러 (PerformanceAspect 대상 패키지) */
+@RestController
+@RequiredArgsConstructor
+public class QueryBudgetProbeController {
+    public static final String PATH = "/api/meetings/query-budget-probe";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @GetMapping(PATH)
+    @QueryBudget(1)
+    public ResponseEntity<Integer> overBudget() {
+        jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+        return ResponseEntity.ok(jdbcTemplate.queryForObject("SELECT 2", Integer.class));
+    }
+}
@@ -0,0 +1,181 @@
+package com.sparta.moit.global.aspect;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.moit.domain.meeting.controller.QueryBudgetProbeController;
+import com.sparta.moit.domain.meeting.index.MeetingGeoIndex;
+import com.sparta.moit.domain.meeting.popular.PopularMeetingRanking;
+import com.sparta.moit.domain.member.entity.UserRoleEnum;
+import com.sparta.moit.global.jwt.JwtUtil;
+import com.sparta.moit.global.metrics.QueryBudgetExceededException;
+import com.sparta.moit.global.util.CareerMapper;
+import com.sparta.moit.global.util.KoreanBigramTokenizer;
+import com.sparta.moit.global.util.SkillMapper;
+import com.sparta.moit.global.util.TagMask;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+ * @QueryBudget 통합 테스트 (db.query-budget.fail-on-exceed=true, application-test.properties)
+ * 1. PostGIS / Redis 컨테이너 위에서 애플리케이션을 띄우고 회원, 모임, 참가, 북마크, 채팅을 시드
+ * 2. @QueryBudget 이 붙은 엔드포인트가 예산 안에서 정상 응답하는지 확인 (초과하면 요청이 예외로 실패)
+ * 3. 예산을 넘는 테스트 전용 컨트롤러로 초과 시 QueryBudgetExceededException 이 발생하는지 확인
+ * Docker 가 없으면 건너뜀
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetIntegrationTest {
+    private static final double CENTER_LAT = 37.5665;
+    private static final double CENTER_LNG = 126.9780;
+    private static final String EMAIL = "budget@moit.me";
+    private static final int REDIS_PORT = 6379;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGIS = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"))
+            .withDatabaseName("moit");
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(REDIS_PORT);
+
+    @DynamicPropertySource
+    static void containerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGIS::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGIS::getUsername);
+        registry.add("spring.datasource.password", POSTGIS::getPassword);
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(REDIS_PORT));
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private MeetingGeoIndex meetingGeoIndex;
+    @Autowired
+    private PopularMeetingRanking popularMeetingRanking;
+
+    private String token;
+    private Long meetingId;
+
+    @BeforeAll
+    void seed() throws JsonProcessingException {
+        jdbcTemplate.update("INSERT INTO member (username, email, role, status) VALUES (?, ?, 'USER', 'MEMBER')", "budget", EMAIL);
+        Long memberId = jdbcTemplate.queryForObject("SELECT id FROM member WHERE email = ?", Long.class, EMAIL);
+
+        List<Long> skillIds = List.of(1L, 3L);
+        List<Long> careerIds = List.of(2L);
+        LocalDate meetingDate = LocalDate.now().plusDays(7);
+        for (int i = 0; i < 3; i++) {
+            String meetingName = "스프링 스터디 " + i;
+            String address = "서울특별시 종로구 테스트로 " + i;
+            String contents = "스프링을 함께 공부하는 모임입니다.";
+            jdbcTemplate.update("INSERT INTO meeting (meeting_name, meeting_date, meeting_start_time, meeting_end_time, budget, "
+                            + "location_address, contents, registered_count, total_count, location_lat, location_lng, location_position, "
+                            + "region_first_name, region_second_name, status, member_id, skill_list, career_list, skill_id_list, career_id_list, "
+                            + "skill_mask, career_mask, search_document, created_at, modified_at) "
+                            + "VALUES (?, ?, ?, ?, 0, ?, ?, 1, 10, ?, ?, ST_SetSRID(ST_MakePoint(?, ?), 4326)::geography, "
+                            + "'서울특별시', '종로구', 'OPEN', ?, ?::jsonb, ?::jsonb, ?::bigint[], ?::bigint[], ?, ?, ?, now(), now())",
+                    meetingName, Date.valueOf(meetingDate),
+                    Timestamp.valueOf(meetingDate.atTime(10, 0)), Timestamp.valueOf(meetingDate.atTime(12, 0)),
+                    address, contents,
+                    CENTER_LAT + i * 0.001, CENTER_LNG, CENTER_LNG, CENTER_LAT + i * 0.001,
+                    memberId,
+                    objectMapper.writeValueAsString(SkillMapper.createSkillResponseList(skillIds)),
+                    objectMapper.writeValueAsString(CareerMapper.createCareerResponseList(careerIds)),
+                    "{1,3}", "{2}", TagMask.of(skillIds), TagMask.of(careerIds),
+                    KoreanBigramTokenizer.toDocument(meetingName, address, contents));
+        }
+        meetingId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM meeting", Long.class);
+
+        jdbcTemplate.update("INSERT INTO meeting_member (meeting_id, member_id) SELECT id, ? FROM meeting", memberId);
+        jdbcTemplate.update("INSERT INTO book_mark (meeting_id, member_id) VALUES (?, ?)", meetingId, memberId);
+        jdbcTemplate.update("INSERT INTO chat (content, member_id, meeting_id, created_at, modified_at) VALUES ('안녕하세요', ?, ?, now(), now())",
+                memberId, meetingId);
+
+        meetingGeoIndex.rebuild();
+        popularMeetingRanking.reconcile();
+        token = jwtUtil.createToken(EMAIL, UserRoleEnum.USER);
+    }
+
+    /* (엔드포인트, 요청 파라미터 "이름=값" 목록) */
+    Stream<Arguments> budgetedEndpoints() {
+        String lat = "locationLat=" + CENTER_LAT;
+        String lng = "locationLng=" + CENTER_LNG;
+        return Stream.of(
+                Arguments.of("/api/meetings/json/cursor", List.of(lat, lng)),
+                Arguments.of("/api/meetings/cursor", List.of(lat, lng)),
+                Arguments.of("/api/meetings/cursor", List.of(lat, lng, "skillId=1", "careerId=2")),
+                Arguments.of("/api/meetings/" + meetingId, List.of()),
+                Arguments.of("/api/meetings/search/cursor", List.of("keyword=스프링")),
+                Arguments.of("/api/meetings/popular", List.of()),
+                Arguments.of("/api/meetings/" + meetingId + "/chats", List.of()),
+                Arguments.of("/api/member/myinfo", List.of()),
+                Arguments.of("/api/member/meeting/cursor", List.of()),
+                Arguments.of("/api/member/meeting/held/cursor", List.of()),
+                Arguments.of("/api/member/meeting/complete/cursor", List.of()),
+                Arguments.of("/api/member/meeting/bookmarked/cursor", List.of())
+        );
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("budgetedEndpoints")
+    @DisplayName("@QueryBudget 엔드포인트 - 예산 안에서 정상 응답")
+    void withinBudget(String path, List<String> params) throws Exception {
+        var request = get(path).header(JwtUtil.AUTHORIZATION_HEADER, token);
+        for (String param : params) {
+            String[] pair = param.split("=", 2);
+            request.param(pair[0], pair[1]);
+        }
+
+        mockMvc.perform(request).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("예산 초과 - QueryBudgetExceededException 으로 요청 실패")
+    void exceedBudget() {
+        ServletException exception = assertThrows(ServletException.class,
+                () -> mockMvc.perform(get(QueryBudgetProbeController.PATH)));
+
+        assertInstanceOf(QueryBudgetExceededException.class, exception.getCause());
+    }
+}
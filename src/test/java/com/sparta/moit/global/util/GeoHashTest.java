@@ -0,0 +1,61 @@
+package com.sparta.moit.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoHashTest {
+
+    @Test
+    @DisplayName("geohash 인코딩 - 알려진 좌표")
+    void encode() {
+        assertEquals("u4pruydqqvj", GeoHash.encode(57.64911, 10.40744, 11));
+        assertEquals("wydm9q", GeoHash.encode(37.5665, 126.9780, 6));
+    }
+
+    @Test
+    @DisplayName("geohash 인코딩 - 정밀도가 낮으면 앞부분만 같음")
+    void encodePrefix() {
+        String full = GeoHash.encode(37.5665, 126.9780, 9);
+        assertEquals(full.substring(0, 6), GeoHash.encode(37.5665, 126.9780, 6));
+    }
+
+    @Test
+    @DisplayName("타일 중심 좌표는 같은 타일로 다시 인코딩됨")
+    void center() {
+        // given
+        String tile = GeoHash.encode(37.5665, 126.9780, 6);
+
+        // when
+        double[] center = GeoHash.center(tile);
+
+        // then
+        assertEquals(tile, GeoHash.encode(center[0], center[1], 6));
+        assertTrue(GeoHash.distanceMeter(37.5665, 126.9780, center[0], center[1]) < 1000);
+    }
+
+    @Test
+    @DisplayName("반경 내 타일 - 기준 좌표의 타일 포함, 모든 타일 중심이 반경 이내")
+    void tilesWithin() {
+        // when
+        Set<String> tiles = GeoHash.tilesWithin(37.5665, 126.9780, 1500, 6);
+
+        // then
+        assertTrue(tiles.contains(GeoHash.encode(37.5665, 126.9780, 6)));
+        for (String tile : tiles) {
+            double[] center = GeoHash.center(tile);
+            assertTrue(GeoHash.distanceMeter(37.5665, 126.9780, center[0], center[1]) <= 1500);
+        }
+    }
+
+    @Test
+    @DisplayName("하버사인 거리 - 같은 좌표는 0, 위도 1도는 약 111km")
+    void distanceMeter() {
+        assertEquals(0.0, GeoHash.distanceMeter(37.5665, 126.9780, 37.5665, 126.9780));
+        assertEquals(111_195, GeoHash.distanceMeter(0, 0, 1, 0), 1);
+    }
+}
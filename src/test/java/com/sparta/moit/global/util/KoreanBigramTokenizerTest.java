@@ -0,0 +1,31 @@
+package com.sparta.moit.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class KoreanBigramTokenizerTest {
+
+    @Test
+    @DisplayName("문서 - 한글은 2글자씩 겹쳐 자르고 영문/숫자는 소문자 그대로, 중복 제거")
+    void toDocument() {
+        assertEquals("스프 프링 링부 부트 스터 터디 java 17",
+                KoreanBigramTokenizer.toDocument("스프링부트 스터디", "Java 17", "스터디"));
+    }
+
+    @Test
+    @DisplayName("검색식 - 모든 토큰 AND, 한 글자 한글과 영문/숫자는 접두어 검색")
+    void toTsQuery() {
+        assertEquals("스프 & 프링 & a:*", KoreanBigramTokenizer.toTsQuery("스프링 a"));
+        assertEquals("강:* & jpa:* & 스터 & 터디", KoreanBigramTokenizer.toTsQuery("강 JPA스터디"));
+    }
+
+    @Test
+    @DisplayName("검색식 - 토큰이 없으면 null")
+    void toTsQueryEmpty() {
+        assertNull(KoreanBigramTokenizer.toTsQuery("  !! "));
+        assertNull(KoreanBigramTokenizer.toTsQuery(null));
+    }
+}
@@ -0,0 +1,61 @@
+package com.sparta.moit.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TagMaskTest {
+
+    @Test
+    @DisplayName("id 목록 -> 비트마스크 (id n 은 n-1 번째 비트)")
+    void of() {
+        assertEquals(0b101L, TagMask.of(new Long[]{1L, 3L}));
+        assertEquals(1L << 62, TagMask.of(List.of(63L)));
+        assertEquals(0L, TagMask.of((Long[]) null));
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 id, null 은 무시")
+    void ofOutOfRange() {
+        assertEquals(0L, TagMask.of(List.of(0L, 64L, -1L)));
+        assertEquals(0b10L, TagMask.of(new Long[]{null, 2L}));
+    }
+
+    @Test
+    @DisplayName("id 문자열 파싱 - 공백, 빈 항목 허용, 비어 있으면 null")
+    void parse() {
+        assertEquals(0b11L, TagMask.parse(" 1, 2 ,"));
+        assertNull(TagMask.parse(null));
+        assertNull(TagMask.parse("  "));
+    }
+
+    @Test
+    @DisplayName("id 문자열 파싱 - 숫자가 아니면 NumberFormatException")
+    void parseInvalid() {
+        assertThrows(NumberFormatException.class, () -> TagMask.parse("1,a"));
+    }
+
+    @Test
+    @DisplayName("비트마스크 -> id 목록 (오름차순)")
+    void toIds() {
+        assertArrayEquals(new Long[]{2L, 5L, 63L}, TagMask.toIds(TagMask.of(List.of(63L, 5L, 2L))));
+        assertArrayEquals(new Long[0], TagMask.toIds(0L));
+    }
+
+    @Test
+    @DisplayName("필터와 겹치는 비트가 있으면 일치, 필터가 null 이면 조건 없음")
+    void matchesAny() {
+        long mask = TagMask.of(List.of(1L, 3L));
+        assertTrue(TagMask.matchesAny(mask, TagMask.of(List.of(3L, 4L))));
+        assertFalse(TagMask.matchesAny(mask, TagMask.of(List.of(2L))));
+        assertTrue(TagMask.matchesAny(0L, null));
+    }
+}
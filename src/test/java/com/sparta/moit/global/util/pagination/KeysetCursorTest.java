@@ -0,0 +1,56 @@
+package com.sparta.moit.global.util.pagination;
+
+import com.sparta.moit.global.error.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 (값, id)")
+    void roundTrip() {
+        // given
+        KeysetCursor cursor = new KeysetCursor(1234.5678, 42L);
+
+        // when
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // then
+        assertEquals(1234.5678, decoded.getLastValue());
+        assertEquals(42L, decoded.getLastId());
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지 커서")
+    void decodeEmpty() {
+        assertSame(KeysetCursor.ASC_FIRST, KeysetCursor.decode(null));
+        assertSame(KeysetCursor.ASC_FIRST, KeysetCursor.decode(" "));
+        assertSame(KeysetCursor.DESC_FIRST, KeysetCursor.decode(null, KeysetCursor.DESC_FIRST));
+    }
+
+    @Test
+    @DisplayName("내림차순 첫 페이지 커서도 왕복 변환 가능")
+    void roundTripDescFirst() {
+        KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.DESC_FIRST.encode());
+        assertEquals(Double.MAX_VALUE, decoded.getLastValue());
+        assertEquals(Long.MAX_VALUE, decoded.getLastId());
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 VALIDATION_ERROR")
+    void decodeInvalid() {
+        String noId = Base64.getUrlEncoder().encodeToString("1.0".getBytes(StandardCharsets.UTF_8));
+        String notNumber = Base64.getUrlEncoder().encodeToString("a:b".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(CustomException.class, () -> KeysetCursor.decode("!!not-base64!!"));
+        assertThrows(CustomException.class, () -> KeysetCursor.decode(noId));
+        assertThrows(CustomException.class, () -> KeysetCursor.decode(notNumber));
+    }
+}